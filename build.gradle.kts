@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.techmath"
@@ -29,6 +30,7 @@ val commonsLangVersion = "3.19.0"
 val testContainersVersion = "1.19.3"
 
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-elasticsearch")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-security")
@@ -56,6 +58,7 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("org.awaitility:awaitility")
     testImplementation("com.h2database:h2")
     testImplementation("org.testcontainers:testcontainers:${testContainersVersion}")
     testImplementation("org.testcontainers:junit-jupiter:${testContainersVersion}")
@@ -63,8 +66,17 @@ dependencies {
     testImplementation("org.testcontainers:elasticsearch:${testContainersVersion}")
     testImplementation("org.testcontainers:kafka:${testContainersVersion}")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    jmh("org.springframework.kafka:spring-kafka-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+}
@@ -0,0 +1,77 @@
+package com.techmath.ecommerce.domain.entities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderTotalsBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int lines;
+
+    private List<Product> products;
+    private Map<Product, Integer> quantitiesByProduct;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(lines);
+        quantitiesByProduct = new LinkedHashMap<>();
+        for (int i = 0; i < lines; i++) {
+            var product = Product.builder()
+                    .id(UUID.randomUUID())
+                    .name("Product " + i)
+                    .price(BigDecimal.valueOf(10 + i % 90, 2))
+                    .category("Benchmark")
+                    .stockQuantity(1_000)
+                    .build();
+            products.add(product);
+            quantitiesByProduct.put(product, 1 + i % 5);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal addItemOneByOne() {
+        var order = new Order();
+        for (int i = 0; i < lines; i++) {
+            order.addItem(products.get(i), 1 + i % 5);
+        }
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal addItemsInBulk() {
+        var order = new Order();
+        order.addItems(quantitiesByProduct);
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal recalculateTotalOnEveryAdd() {
+        var order = new Order();
+        var total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            order.addItem(products.get(i), 1 + i % 5);
+            total = order.getItems().stream()
+                    .map(OrderItem::getTotalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RingBufferBenchmark {
+
+    private static final Object EVENT = new Object();
+
+    @Param({"1", "256"})
+    private int batchSize;
+
+    private LongAdder delivered;
+    private RingBuffer<Object> ringBuffer;
+
+    @Setup
+    public void setUp() {
+        delivered = new LongAdder();
+        ringBuffer = new RingBuffer<>("benchmark", 65536, batchSize, Duration.ofMillis(1),
+                batch -> delivered.add(batch.size()));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        ringBuffer.close();
+        ringBuffer.awaitTermination(Duration.ofSeconds(10));
+        System.out.printf("Delivered %d events in batches of up to %d%n", delivered.sum(), batchSize);
+    }
+
+    @Benchmark
+    public void publish() {
+        ringBuffer.publish(EVENT);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventCodecBenchmark {
+
+    private OrderPaidEvent event;
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private EventSerializer binarySerializer;
+    private EventDeserializer binaryDeserializer;
+    private byte[] json;
+    private byte[] binary;
+    private RecordHeaders binaryHeaders;
+
+    @Setup
+    public void setUp() {
+        event = new OrderPaidEvent(UUID.randomUUID(), new BigDecimal("1234.56"), LocalDateTime.now(), true);
+
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        jsonDeserializer = new JsonDeserializer<>();
+        jsonDeserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.VALUE_DEFAULT_TYPE, OrderPaidEvent.class.getName()), false);
+
+        binarySerializer = new EventSerializer();
+        binarySerializer.configure(Map.of(EventSerializer.FORMAT_CONFIG, "binary"), false);
+        binaryDeserializer = new EventDeserializer();
+        binaryDeserializer.configure(Map.of(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderPaidEvent.class.getName()), false);
+
+        json = jsonSerializer.serialize("order.paid", event);
+        binaryHeaders = new RecordHeaders();
+        binary = binarySerializer.serialize("order.paid", binaryHeaders, event);
+        System.out.printf("OrderPaidEvent payload size: JSON %d bytes, binary %d bytes%n", json.length, binary.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+        jsonDeserializer.close();
+        binarySerializer.close();
+        binaryDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize("order.paid", new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize("order.paid", new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return jsonDeserializer.deserialize("order.paid", new RecordHeaders(), json);
+    }
+
+    @Benchmark
+    public Object deserializeBinary() {
+        return binaryDeserializer.deserialize("order.paid", binaryHeaders, binary);
+    }
+
+}
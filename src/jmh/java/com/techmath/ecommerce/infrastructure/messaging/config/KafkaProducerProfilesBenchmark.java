@@ -0,0 +1,98 @@
+package com.techmath.ecommerce.infrastructure.messaging.config;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class KafkaProducerProfilesBenchmark {
+
+    private static final String TOPIC = "benchmark.order.paid";
+    private static final int BATCH = 1_000;
+
+    @Param({"legacy", "reliable", "throughput", "low-latency"})
+    private String profile;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private DefaultKafkaProducerFactory<String, Object> producerFactory;
+    private KafkaTemplate<String, Object> template;
+    private OrderPaidEvent event;
+
+    @Setup
+    public void setUp() throws IOException {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+        producerFactory = new DefaultKafkaProducerFactory<>(
+                KafkaProducerConfig.producerConfigs(broker.getBrokersAsString(), loadProfile(profile), JsonSerializer.class));
+        template = new KafkaTemplate<>(producerFactory);
+        event = new OrderPaidEvent(UUID.randomUUID(), BigDecimal.valueOf(99.99), LocalDateTime.now(), true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        producerFactory.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH)
+    public void sendBatch() {
+        var futures = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            futures[i] = template.send(TOPIC, UUID.randomUUID().toString(), event);
+        }
+        template.flush();
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SendResult<String, Object> sendOne() {
+        return template.send(TOPIC, UUID.randomUUID().toString(), event).join();
+    }
+
+    private static KafkaProducerProperties.Profile loadProfile(String name) throws IOException {
+        if ("legacy".equals(name)) {
+            var legacy = new KafkaProducerProperties.Profile();
+            legacy.setIdempotence(false);
+            legacy.setMaxInFlight(1);
+            return legacy;
+        }
+
+        var environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))
+                .forEach(environment.getPropertySources()::addLast);
+        return Binder.get(environment)
+                .bind("kafka.producer", KafkaProducerProperties.class)
+                .map(properties -> properties.getProfile(name))
+                .orElseThrow(() -> new IllegalStateException("No kafka.producer properties in application.yml"));
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.techmath.ecommerce.application.services;
+
+import com.techmath.ecommerce.domain.entities.DeadLetterEvent;
+import com.techmath.ecommerce.domain.enums.DeadLetterStatus;
+import com.techmath.ecommerce.domain.repositories.DeadLetterEventRepository;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventFormat;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventPayloads;
+import com.techmath.ecommerce.infrastructure.messaging.config.KafkaTemplateRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.ATTEMPT_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.EXCEPTION_CLASS_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.EXCEPTION_MESSAGE_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.FAILED_AT_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.ORIGINAL_OFFSET_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.ORIGINAL_PARTITION_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.ORIGINAL_TOPIC_HEADER;
+import static com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter.header;
+
+@Slf4j
+@Service
+public class DeadLetterService {
+
+    public static final String REDRIVEN_FROM_HEADER = "x-redriven-from";
+
+    private final DeadLetterEventRepository repository;
+    private final KafkaTemplateRegistry kafkaTemplates;
+    private final int redriveBatchSize;
+    private final Duration sendTimeout;
+
+    public DeadLetterService(
+            DeadLetterEventRepository repository,
+            KafkaTemplateRegistry kafkaTemplates,
+            @Value("${kafka.consumer.dead-letter.redrive-batch-size:500}") int redriveBatchSize,
+            @Value("${kafka.consumer.dead-letter.send-timeout:PT30S}") Duration sendTimeout
+    ) {
+        this.repository = repository;
+        this.kafkaTemplates = kafkaTemplates;
+        this.redriveBatchSize = redriveBatchSize;
+        this.sendTimeout = sendTimeout;
+    }
+
+    public void record(ConsumerRecord<String, byte[]> record) {
+        var contentType = header(record, EventFormat.CONTENT_TYPE_HEADER).orElse(EventFormat.JSON.getContentType());
+        var event = DeadLetterEvent.builder()
+                .originalTopic(header(record, ORIGINAL_TOPIC_HEADER).orElse(record.topic()))
+                .originalPartition(header(record, ORIGINAL_PARTITION_HEADER).map(Integer::parseInt).orElse(record.partition()))
+                .originalOffset(header(record, ORIGINAL_OFFSET_HEADER).map(Long::parseLong).orElse(record.offset()))
+                .messageKey(record.key())
+                .payload(EventPayloads.toText(contentType, record.value()))
+                .contentType(contentType)
+                .exceptionClass(header(record, EXCEPTION_CLASS_HEADER).orElse(null))
+                .exceptionMessage(header(record, EXCEPTION_MESSAGE_HEADER).orElse(null))
+                .attempts(header(record, ATTEMPT_HEADER).map(Integer::parseInt).orElse(0))
+                .failedAt(header(record, FAILED_AT_HEADER)
+                        .map(failedAt -> LocalDateTime.ofInstant(Instant.parse(failedAt), ZoneId.systemDefault()))
+                        .orElse(null))
+                .build();
+
+        try {
+            repository.save(event);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Dead letter for {}-{}@{} already recorded",
+                    event.getOriginalTopic(), event.getOriginalPartition(), event.getOriginalOffset());
+        }
+    }
+
+    public Page<DeadLetterEvent> getDeadLetters(DeadLetterStatus status, Pageable pageable) {
+        return repository.findAllByStatus(status, pageable);
+    }
+
+    @Transactional
+    public int redrive(Collection<UUID> ids) {
+        var events = CollectionUtils.isEmpty(ids)
+                ? repository.findAllByStatus(DeadLetterStatus.PENDING,
+                        PageRequest.of(0, redriveBatchSize, Sort.by("createdAt"))).getContent()
+                : repository.findAllByIdInAndStatus(ids, DeadLetterStatus.PENDING);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        var futures = new ArrayList<CompletableFuture<SendResult<String, byte[]>>>(events.size());
+        for (var event : events) {
+            var producerRecord = EventPayloads.toProducerRecord(
+                    event.getOriginalTopic(), event.getMessageKey(), null, event.getContentType(), event.getPayload());
+            producerRecord.headers().add(REDRIVEN_FROM_HEADER, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+            futures.add(kafkaTemplates.rawForTopic(event.getOriginalTopic()).send(producerRecord));
+        }
+        awaitAll(futures);
+
+        events.forEach(DeadLetterEvent::markRedriven);
+        log.info("Re-drove {} dead-lettered events", events.size());
+        return events.size();
+    }
+
+    private void awaitAll(Collection<CompletableFuture<SendResult<String, byte[]>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while re-driving dead-lettered events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Failed to re-drive dead-lettered events", e);
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.techmath.ecommerce.application.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmath.ecommerce.domain.entities.IdempotencyRecord;
+import com.techmath.ecommerce.domain.entities.User;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.domain.repositories.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Map<String, IdempotencyRecord> cache;
+    private final Map<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRecordRepository repository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${idempotency.cache-size:10000}") int cacheSize,
+            @Value("${idempotency.wait-timeout:PT30S}") Duration waitTimeout
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public <T> T execute(String idempotencyKey, String operation, Class<T> responseType, Supplier<T> action) {
+        if (Objects.isNull(idempotencyKey) || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(IDEMPOTENCY_KEY_HEADER + " must have at most " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        var key = scope(operation, idempotencyKey);
+        var cached = cache.get(key);
+        if (Objects.nonNull(cached) && !cached.isExpired()) {
+            return read(cached, responseType);
+        }
+
+        var execution = new CompletableFuture<IdempotencyRecord>();
+        var running = inFlight.putIfAbsent(key, execution);
+        if (Objects.nonNull(running)) {
+            return read(await(running), responseType);
+        }
+
+        try {
+            var record = repository.findById(key)
+                    .filter(stored -> !stored.isExpired())
+                    .orElseGet(() -> executeAndRecord(key, operation, action));
+            cache.put(key, record);
+            execution.complete(record);
+            return read(record, responseType);
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        return repository.deleteExpired(LocalDateTime.now());
+    }
+
+    private <T> IdempotencyRecord executeAndRecord(String key, String operation, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                var record = IdempotencyRecord.builder()
+                        .key(key)
+                        .operation(operation)
+                        .responseBody(write(action.get()))
+                        .expiresAt(LocalDateTime.now().plus(ttl))
+                        .build();
+                return repository.save(record);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Idempotent {} was completed concurrently by another instance", operation);
+            return repository.findById(key).orElseThrow(() -> e);
+        }
+    }
+
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException("A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed, retry later.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an idempotent request", e);
+        }
+    }
+
+    private String scope(String operation, String idempotencyKey) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        var principal = Objects.nonNull(authentication) && authentication.getPrincipal() instanceof User user
+                ? user.getId().toString()
+                : "anonymous";
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest((operation + ":" + principal + ":" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent response", e);
+        }
+    }
+
+    private <T> T read(IdempotencyRecord record, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize idempotent response", e);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.techmath.ecommerce.application.services;
+
+import com.techmath.ecommerce.domain.entities.User;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.domain.repositories.OrderIntakeRejectionRepository;
+import com.techmath.ecommerce.domain.repositories.OrderRepository;
+import com.techmath.ecommerce.infrastructure.messaging.producers.OrderEventProducer;
+import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
+import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+    private final OrderEventProducer orderEventProducer;
+    private final OrderRepository orderRepository;
+    private final OrderIntakeRejectionRepository rejectionRepository;
+    private final OrderService orderService;
+    private final boolean async;
+    private final Duration publishTimeout;
+
+    public OrderIntakeService(
+            OrderEventProducer orderEventProducer,
+            OrderRepository orderRepository,
+            OrderIntakeRejectionRepository rejectionRepository,
+            OrderService orderService,
+            @Value("${orders.intake.mode:sync}") String mode,
+            @Value("${orders.intake.publish-timeout:PT5S}") Duration publishTimeout
+    ) {
+        this.orderEventProducer = orderEventProducer;
+        this.orderRepository = orderRepository;
+        this.rejectionRepository = rejectionRepository;
+        this.orderService = orderService;
+        this.async = "async".equalsIgnoreCase(mode);
+        this.publishTimeout = publishTimeout;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public OrderResponse submit(List<OrderItemsRequest> items) {
+        var requestId = UUID.randomUUID();
+        var lines = orderService.mergeQuantitiesByProduct(items).entrySet().stream()
+                .map(line -> new OrderRequestedEvent.Item(line.getKey(), line.getValue()))
+                .toList();
+        var event = new OrderRequestedEvent(requestId, currentUserId(), lines, LocalDateTime.now());
+
+        try {
+            orderEventProducer.publishOrderRequestedEvent(event)
+                    .get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing the order request", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Failed to queue order request {}", requestId, e);
+            throw new IllegalStateException("Order intake is temporarily unavailable. Please try again.", e);
+        }
+
+        return OrderResponse.builder()
+                .requestId(requestId)
+                .message("Order request accepted for processing")
+                .build();
+    }
+
+    public OrderResponse getRequestStatus(UUID requestId) {
+        var userId = currentUserId();
+
+        var order = orderRepository.findByIntakeRequestId(requestId);
+        if (order.isPresent()) {
+            if (!order.get().getUser().getId().equals(userId)) {
+                throw new EntityNotFoundException("Order request not found with id: " + requestId);
+            }
+            return new OrderResponse(order.get().getId(), order.get().getStatus(), null, requestId);
+        }
+
+        var rejection = rejectionRepository.findById(requestId);
+        if (rejection.isPresent()) {
+            if (!rejection.get().getUserId().equals(userId)) {
+                throw new EntityNotFoundException("Order request not found with id: " + requestId);
+            }
+            return new OrderResponse(null, null, rejection.get().getReason(), requestId);
+        }
+
+        return OrderResponse.builder()
+                .requestId(requestId)
+                .message("Order request is queued for processing")
+                .build();
+    }
+
+    private UUID currentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.nonNull(authentication) && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        throw new IllegalStateException("Order requests require an authenticated user");
+    }
+
+}
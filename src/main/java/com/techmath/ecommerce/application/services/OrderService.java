@@ -1,17 +1,22 @@
 package com.techmath.ecommerce.application.services;
 
 import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.Product;
 import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.domain.exceptions.InvalidOrderStateException;
 import com.techmath.ecommerce.domain.repositories.OrderRepository;
 import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,17 +24,22 @@ public class OrderService {
 
     private final OrderRepository repository;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
 
     @Transactional
     public Order createOrder(List<OrderItemsRequest> items) {
         var order = new Order();
+        var quantities = mergeQuantitiesByProduct(items);
+        var products = productService.getProductsByIds(quantities.keySet());
 
-        for (var item : items) {
-            var product = productService.getProductById(item.productId());
-            order.addItem(product, item.quantity());
-            if (order.isPending() && !product.hasStock(item.quantity())) {
-                order.cancel();
-            }
+        var lines = new LinkedHashMap<Product, Integer>();
+        quantities.forEach((productId, quantity) -> lines.put(products.get(productId), quantity));
+        order.addItems(lines);
+
+        var unavailable = lines.entrySet().stream()
+                .anyMatch(line -> !productService.hasAvailableStock(line.getKey(), line.getValue()));
+        if (unavailable) {
+            order.cancel();
         }
 
         if (order.isCancelled()) {
@@ -37,7 +47,30 @@ public class OrderService {
             productService.handleInsufficientStock(order);
         }
 
-        return repository.save(order);
+        order = repository.save(order);
+        if (!stockReservationService.reserve(order)) {
+            throw new InsufficientStockException("Requested stock was reserved by other orders. Please try again.");
+        }
+
+        return order;
+    }
+
+    @Transactional
+    public Order cancelOrder(UUID id) {
+        var order = repository.findById(id).orElseThrow(EntityNotFoundException::new);
+        if (!order.isPending()) {
+            throw new InvalidOrderStateException();
+        }
+
+        order.cancel();
+        order = repository.save(order);
+        stockReservationService.release(order.getId());
+        return order;
+    }
+
+    @Transactional
+    public List<Order> createOrders(Collection<Order> orders) {
+        return repository.saveAll(orders);
     }
 
     public Optional<Order> getOrderById(UUID id) {
@@ -48,8 +81,20 @@ public class OrderService {
         return repository.findByIdWithItems(id);
     }
 
+    public List<Order> getOrdersByIdsWithItems(Collection<UUID> ids) {
+        return repository.findAllByIdWithItems(ids);
+    }
+
     public Order updateOrder(Order order) {
         return repository.save(order);
     }
 
+    public Map<UUID, Integer> mergeQuantitiesByProduct(List<OrderItemsRequest> items) {
+        var quantities = new LinkedHashMap<UUID, Integer>();
+        for (var item : items) {
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
 }
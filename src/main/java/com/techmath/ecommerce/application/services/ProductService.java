@@ -4,26 +4,44 @@ import com.techmath.ecommerce.domain.entities.Order;
 import com.techmath.ecommerce.domain.entities.Product;
 import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
 import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.concurrency.OptimisticLockRetryExecutor;
+import com.techmath.ecommerce.infrastructure.inventory.HotProductStockQueue;
+import com.techmath.ecommerce.infrastructure.inventory.InventoryLedger;
 import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
     private final ProductRepository repository;
     private final ProductSearchService searchSyncService;
+    private final ObjectProvider<InventoryLedger> inventoryLedger;
+    private final HotProductStockQueue hotProductStockQueue;
+    private final OptimisticLockRetryExecutor retryExecutor;
 
     @Transactional
     public Product createProduct(Product product) {
@@ -41,11 +59,40 @@ public class ProductService {
             .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + id));
     }
 
+    public Map<UUID, Product> getProductsByIds(Collection<UUID> ids) {
+        var products = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        var missingIds = ids.stream()
+                .filter(id -> !products.containsKey(id))
+                .map(UUID::toString)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Products not found with ids: " + missingIds);
+        }
+
+        return products;
+    }
+
     @Transactional
+    public Map<UUID, Product> lockProductsByIds(Collection<UUID> ids) {
+        var hotIds = ids.stream().filter(hotProductStockQueue::isHot).toList();
+        var coldIds = ids.stream().filter(id -> !hotProductStockQueue.isHot(id)).toList();
+
+        // Hot product rows are only written by their single-writer queue, so they are read without a row lock.
+        var products = new HashMap<UUID, Product>();
+        if (!coldIds.isEmpty()) {
+            repository.findAllByIdForUpdate(coldIds).forEach(product -> products.put(product.getId(), product));
+        }
+        if (!hotIds.isEmpty()) {
+            repository.findAllById(hotIds).forEach(product -> products.put(product.getId(), product));
+        }
+        return products;
+    }
+
     public Product updateProduct(UUID id, Product toUpdate) {
-        var product = getProductById(id);
-        BeanUtils.copyProperties(toUpdate, product, "id");
-        return saveAndSync(product);
+        return retryExecutor.execute("product.update", id, () -> applyUpdate(id, toUpdate));
     }
 
     @Transactional
@@ -55,7 +102,123 @@ public class ProductService {
         } else {
             throw new InsufficientStockException("Insufficient stock for product: " + product.getName());
         }
-        return saveAndSync(product);
+        var saved = repository.save(product);
+        searchSyncService.syncStock(saved);
+        return saved;
+    }
+
+    @Transactional
+    public void decreaseStock(UUID id, int quantity) {
+        var ledger = inventoryLedger.getIfAvailable();
+        if (Objects.nonNull(ledger)) {
+            if (!ledger.decrease(id, quantity)) {
+                throw insufficientStock(id);
+            }
+            return;
+        }
+        applyStockDecrement(id, quantity, 0);
+    }
+
+    @Transactional
+    public void commitReservedStock(UUID id, int quantity) {
+        var ledger = inventoryLedger.getIfAvailable();
+        if (Objects.nonNull(ledger)) {
+            ledger.commitReserved(id, quantity);
+            return;
+        }
+        applyStockDecrement(id, quantity, quantity);
+    }
+
+    @Transactional
+    public boolean reserveStock(UUID id, int quantity) {
+        var ledger = inventoryLedger.getIfAvailable();
+        if (Objects.nonNull(ledger)) {
+            return ledger.reserve(id, quantity);
+        }
+        if (hotProductStockQueue.isHot(id)) {
+            return applyHotProductStockChange(id, 0, -quantity);
+        }
+        return repository.reserveStock(id, quantity) > 0;
+    }
+
+    @Transactional
+    public boolean reserveStock(Map<Product, Integer> quantitiesByProduct) {
+        var ledger = inventoryLedger.getIfAvailable();
+        if (Objects.nonNull(ledger)) {
+            var reserved = new LinkedHashMap<UUID, Integer>();
+            for (var line : quantitiesByProduct.entrySet()) {
+                if (!ledger.reserve(line.getKey().getId(), line.getValue())) {
+                    reserved.forEach(ledger::release);
+                    return false;
+                }
+                reserved.put(line.getKey().getId(), line.getValue());
+            }
+            return true;
+        }
+
+        var coldLines = new LinkedHashMap<Product, Integer>();
+        var hotLines = new LinkedHashMap<UUID, Integer>();
+        quantitiesByProduct.forEach((product, quantity) -> {
+            if (hotProductStockQueue.isHot(product.getId())) {
+                hotLines.put(product.getId(), quantity);
+            } else {
+                coldLines.put(product, quantity);
+            }
+        });
+
+        var available = coldLines.entrySet().stream()
+                .allMatch(line -> line.getKey().hasAvailableStock(line.getValue()));
+        if (!available || !reserveHotProductStock(hotLines)) {
+            return false;
+        }
+        coldLines.forEach(Product::reserveStock);
+        return true;
+    }
+
+    @Transactional
+    public void releaseReservedStock(UUID id, int quantity) {
+        var ledger = inventoryLedger.getIfAvailable();
+        if (Objects.nonNull(ledger)) {
+            ledger.release(id, quantity);
+            return;
+        }
+        var released = hotProductStockQueue.isHot(id)
+                ? applyHotProductStockChange(id, 0, quantity)
+                : repository.releaseReservedStock(id, quantity) > 0;
+        if (!released) {
+            log.warn("Reserved stock of product {} was already released", id);
+        }
+    }
+
+    @Transactional
+    public void applyStockChanges(Map<UUID, StockChange> changes) {
+        var ledger = inventoryLedger.getIfAvailable();
+        var changedIds = new ArrayList<UUID>(changes.size());
+
+        changes.forEach((id, change) -> {
+            if (Objects.nonNull(ledger)) {
+                if (change.reserved() > 0) {
+                    ledger.commitReserved(id, change.reserved());
+                }
+                var unreserved = change.quantity() - change.reserved();
+                if (unreserved > 0 && !ledger.decrease(id, unreserved)) {
+                    throw insufficientStock(id);
+                }
+                return;
+            }
+            if (hotProductStockQueue.isHot(id)) {
+                applyHotProductStockDecrement(id, change.quantity(), change.reserved());
+                return;
+            }
+            if (repository.decreaseStock(id, change.quantity(), change.reserved()) == 0) {
+                throw insufficientStock(id);
+            }
+            changedIds.add(id);
+        });
+
+        if (!changedIds.isEmpty()) {
+            searchSyncService.syncStocks(repository.findAllById(changedIds));
+        }
     }
 
     @Transactional
@@ -65,14 +228,109 @@ public class ProductService {
         searchSyncService.syncDeleteProduct(product);
     }
 
+    public boolean hasAvailableStock(Product product, int quantity) {
+        var available = getAvailableQuantity(product);
+        return available > 0 && available >= quantity;
+    }
+
+    public int getAvailableQuantity(Product product) {
+        var ledger = inventoryLedger.getIfAvailable();
+        return Objects.nonNull(ledger) ? ledger.getAvailableQuantity(product.getId()) : product.getAvailableQuantity();
+    }
+
     public void handleInsufficientStock(Order order) {
-        var message = order.getItems().stream()
-                .filter(item -> item.getQuantity() > item.getProduct().getStockQuantity())
+        throw new InsufficientStockException(getInsufficientStockMessage(order));
+    }
+
+    public String getInsufficientStockMessage(Order order) {
+        return order.getItems().stream()
+                .filter(item -> item.getQuantity() > getAvailableQuantity(item.getProduct()))
                 .map(item -> "[Product:" + item.getProduct().getName()
-                        + ", Available: " + item.getProduct().getStockQuantity()
+                        + ", Available: " + getAvailableQuantity(item.getProduct())
                         + ", Requested: " + item.getQuantity() + "]")
                 .collect(Collectors.joining("\n"));
-        throw new InsufficientStockException(message);
+    }
+
+    private Product applyUpdate(UUID id, Product toUpdate) {
+        var ledger = inventoryLedger.getIfAvailable();
+        if (Objects.nonNull(ledger)) {
+            ledger.flush(id);
+        }
+
+        var product = getProductById(id);
+        BeanUtils.copyProperties(toUpdate, product, "id", "reservedQuantity", "version");
+        product = saveAndSync(product);
+        repository.flush();
+
+        if (Objects.nonNull(ledger)) {
+            ledger.reload(id);
+        }
+        return product;
+    }
+
+    private void applyStockDecrement(UUID id, int quantity, int reserved) {
+        if (hotProductStockQueue.isHot(id)) {
+            applyHotProductStockDecrement(id, quantity, reserved);
+            return;
+        }
+        if (repository.decreaseStock(id, quantity, reserved) == 0) {
+            throw insufficientStock(id);
+        }
+        searchSyncService.syncStock(getProductById(id));
+    }
+
+    private void applyHotProductStockDecrement(UUID id, int quantity, int reserved) {
+        if (!applyHotProductStockChange(id, quantity, reserved)) {
+            throw insufficientStock(id);
+        }
+    }
+
+    // The queue applies (quantity, reserved) as decrements, so a negative reserved change reserves stock.
+    private boolean applyHotProductStockChange(UUID id, int quantity, int reserved) {
+        try {
+            hotProductStockQueue.decreaseStock(id, quantity, reserved);
+        } catch (InsufficientStockException e) {
+            return false;
+        }
+        compensateOnRollback(id, quantity, reserved);
+        return true;
+    }
+
+    private boolean reserveHotProductStock(Map<UUID, Integer> quantities) {
+        var reserved = new LinkedHashMap<UUID, Integer>();
+        for (var line : quantities.entrySet()) {
+            try {
+                hotProductStockQueue.decreaseStock(line.getKey(), 0, -line.getValue());
+            } catch (RuntimeException e) {
+                reserved.forEach((id, quantity) -> hotProductStockQueue.compensate(id, 0, -quantity));
+                if (e instanceof InsufficientStockException) {
+                    return false;
+                }
+                throw e;
+            }
+            reserved.put(line.getKey(), line.getValue());
+        }
+        reserved.forEach((id, quantity) -> compensateOnRollback(id, 0, -quantity));
+        return true;
+    }
+
+    // Changes are already committed by the writer, so a rollback has to undo them.
+    private void compensateOnRollback(UUID id, int quantity, int reserved) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        hotProductStockQueue.compensate(id, quantity, reserved);
+                    }
+                }
+            });
+        }
+    }
+
+    private InsufficientStockException insufficientStock(UUID id) {
+        var product = getProductById(id);
+        return new InsufficientStockException("Insufficient stock for product: " + product.getName());
     }
 
     private Product saveAndSync(Product product) {
@@ -81,4 +339,12 @@ public class ProductService {
         return product;
     }
 
+    public record StockChange(int quantity, int reserved) {
+
+        public StockChange add(StockChange other) {
+            return new StockChange(quantity + other.quantity, reserved + other.reserved);
+        }
+
+    }
+
 }
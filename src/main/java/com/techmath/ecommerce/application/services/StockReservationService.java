@@ -0,0 +1,107 @@
+package com.techmath.ecommerce.application.services;
+
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.OrderItem;
+import com.techmath.ecommerce.domain.entities.StockReservation;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
+import com.techmath.ecommerce.domain.enums.ReservationStatus;
+import com.techmath.ecommerce.domain.repositories.OrderRepository;
+import com.techmath.ecommerce.domain.repositories.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRepository repository;
+    private final OrderRepository orderRepository;
+    private final ProductService productService;
+
+    @Value("${inventory.reservations.ttl:PT15M}")
+    private Duration reservationTtl;
+
+    @Transactional
+    public boolean reserve(Order order) {
+        var reservedItems = new ArrayList<OrderItem>();
+
+        for (var item : order.getItems()) {
+            if (!productService.reserveStock(item.getProduct().getId(), item.getQuantity())) {
+                reservedItems.forEach(reserved ->
+                        productService.releaseReservedStock(reserved.getProduct().getId(), reserved.getQuantity()));
+                return false;
+            }
+            reservedItems.add(item);
+        }
+
+        recordReservations(List.of(order));
+        return true;
+    }
+
+    @Transactional
+    public void recordReservations(Collection<Order> orders) {
+        var expiresAt = LocalDateTime.now().plus(reservationTtl);
+        var reservations = orders.stream()
+                .flatMap(order -> order.getItems().stream())
+                .map(item -> StockReservation.builder()
+                        .orderId(item.getOrder().getId())
+                        .productId(item.getProduct().getId())
+                        .quantity(item.getQuantity())
+                        .expiresAt(expiresAt)
+                        .build())
+                .toList();
+
+        repository.saveAll(reservations);
+    }
+
+    @Transactional
+    public boolean convert(UUID orderId) {
+        return repository.updateActiveStatusByOrderId(orderId, ReservationStatus.CONVERTED) > 0;
+    }
+
+    @Transactional
+    public boolean release(UUID orderId) {
+        var reservations = repository.findByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE);
+
+        if (reservations.isEmpty() || repository.updateActiveStatusByOrderId(orderId, ReservationStatus.RELEASED) == 0) {
+            return false;
+        }
+
+        reservations.forEach(reservation ->
+                productService.releaseReservedStock(reservation.getProductId(), reservation.getQuantity()));
+        return true;
+    }
+
+    @Transactional
+    public int releaseExpired(int batchSize) {
+        var expiredOrderIds = new LinkedHashSet<UUID>();
+        repository.findExpired(LocalDateTime.now(), PageRequest.of(0, batchSize))
+                .forEach(reservation -> expiredOrderIds.add(reservation.getOrderId()));
+
+        List<UUID> releasedOrderIds = expiredOrderIds.stream()
+                .filter(this::release)
+                .toList();
+
+        if (!releasedOrderIds.isEmpty()) {
+            var cancelled = orderRepository.updatePendingStatus(releasedOrderIds, OrderStatus.CANCELLED);
+            log.info("Released expired reservations of {} orders ({} pending orders cancelled)",
+                    releasedOrderIds.size(), cancelled);
+        }
+
+        return releasedOrderIds.size();
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.techmath.ecommerce.application.usecases;
+
+import com.techmath.ecommerce.application.converters.OrderConverter;
+import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.ProductService;
+import com.techmath.ecommerce.application.services.StockReservationService;
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.presentation.dto.request.OrderRequest;
+import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CreateOrderBatchUseCase {
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final OrderConverter orderConverter;
+
+    @Value("${orders.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Transactional
+    public List<OrderResponse> execute(List<OrderRequest> requests) {
+        return execute(requests, Collections.nCopies(requests.size(), null));
+    }
+
+    @Transactional
+    public List<OrderResponse> execute(List<OrderRequest> requests, List<UUID> intakeRequestIds) {
+        if (requests.size() > maxBatchSize) {
+            throw new BusinessException("A batch accepts at most " + maxBatchSize + " orders.");
+        }
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        var quantitiesByOrder = requests.stream()
+                .map(request -> orderService.mergeQuantitiesByProduct(request.items()))
+                .toList();
+        var productIds = quantitiesByOrder.stream()
+                .flatMap(quantities -> quantities.keySet().stream())
+                .collect(Collectors.toSet());
+        var products = productService.lockProductsByIds(productIds);
+
+        var responses = new ArrayList<OrderResponse>(requests.size());
+        var acceptedOrders = new ArrayList<Order>();
+        var acceptedIndexes = new ArrayList<Integer>();
+
+        for (int i = 0; i < quantitiesByOrder.size(); i++) {
+            var quantities = quantitiesByOrder.get(i);
+            var missingIds = quantities.keySet().stream()
+                    .filter(productId -> !products.containsKey(productId))
+                    .map(UUID::toString)
+                    .collect(Collectors.joining(", "));
+            if (!missingIds.isEmpty()) {
+                responses.add(OrderResponse.builder().message("Products not found with ids: " + missingIds).build());
+                continue;
+            }
+
+            var lines = toLines(quantities, products);
+            var order = new Order();
+            order.setIntakeRequestId(intakeRequestIds.get(i));
+            order.addItems(lines);
+
+            if (!productService.reserveStock(lines)) {
+                order.cancel();
+                responses.add(OrderResponse.builder()
+                        .status(order.getStatus())
+                        .message(productService.getInsufficientStockMessage(order))
+                        .build());
+                continue;
+            }
+
+            acceptedIndexes.add(responses.size());
+            acceptedOrders.add(order);
+            responses.add(null);
+        }
+
+        var savedOrders = orderService.createOrders(acceptedOrders);
+        stockReservationService.recordReservations(savedOrders);
+
+        for (int i = 0; i < savedOrders.size(); i++) {
+            responses.set(acceptedIndexes.get(i), orderConverter.toDTO(savedOrders.get(i)));
+        }
+
+        log.info("Order batch processed: {} accepted, {} rejected", savedOrders.size(), requests.size() - savedOrders.size());
+        return responses;
+    }
+
+    private Map<Product, Integer> toLines(Map<UUID, Integer> quantities, Map<UUID, Product> products) {
+        var lines = new LinkedHashMap<Product, Integer>();
+        quantities.forEach((productId, quantity) -> lines.put(products.get(productId), quantity));
+        return lines;
+    }
+
+}
@@ -2,6 +2,8 @@ package com.techmath.ecommerce.application.usecases;
 
 import com.techmath.ecommerce.application.converters.OrderConverter;
 import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.StockReservationService;
+import com.techmath.ecommerce.domain.entities.Order;
 import com.techmath.ecommerce.domain.events.OrderPaidEvent;
 import com.techmath.ecommerce.infrastructure.messaging.producers.OrderEventProducer;
 import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -18,6 +21,7 @@ import java.util.UUID;
 public class PayOrderUseCase {
 
     private final OrderService orderService;
+    private final StockReservationService stockReservationService;
     private final OrderConverter orderConverter;
     private final OrderEventProducer orderEventProducer;
 
@@ -26,9 +30,17 @@ public class PayOrderUseCase {
         var order = orderService.getOrderById(orderId).orElseThrow(EntityNotFoundException::new);
         order.processPayment();
         order = orderService.updateOrder(order);
-        var event = new OrderPaidEvent(order.getId(), order.getTotalAmount(), LocalDateTime.now());
+        var stockReserved = stockReservationService.convert(order.getId());
+        var event = new OrderPaidEvent(order.getId(), order.getTotalAmount(), LocalDateTime.now(), stockReserved,
+                OrderPaidEvent.CURRENT_VERSION, toEventItems(order));
         orderEventProducer.publishOrderPaidEvent(event);
         return orderConverter.toDTO(order);
     }
 
+    private List<OrderPaidEvent.Item> toEventItems(Order order) {
+        return order.getItems().stream()
+                .map(item -> new OrderPaidEvent.Item(item.getProduct().getId(), item.getQuantity(), item.getUnitPrice()))
+                .toList();
+    }
+
 }
@@ -0,0 +1,109 @@
+package com.techmath.ecommerce.application.usecases;
+
+import com.techmath.ecommerce.domain.entities.OrderIntakeRejection;
+import com.techmath.ecommerce.domain.entities.User;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.domain.repositories.OrderIntakeRejectionRepository;
+import com.techmath.ecommerce.domain.repositories.OrderRepository;
+import com.techmath.ecommerce.domain.repositories.UserRepository;
+import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
+import com.techmath.ecommerce.presentation.dto.request.OrderRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessOrderRequestsUseCase {
+
+    private final CreateOrderBatchUseCase createOrderBatchUseCase;
+    private final OrderRepository orderRepository;
+    private final OrderIntakeRejectionRepository rejectionRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public void execute(List<OrderRequestedEvent> events) {
+        var requestIds = events.stream().map(OrderRequestedEvent::getRequestId).toList();
+        var processed = new HashSet<>(orderRepository.findIntakeRequestIds(requestIds));
+        rejectionRepository.findAllById(requestIds).forEach(rejection -> processed.add(rejection.getRequestId()));
+
+        var eventsByUser = events.stream()
+                .filter(event -> processed.add(event.getRequestId()))
+                .collect(Collectors.groupingBy(OrderRequestedEvent::getUserId, LinkedHashMap::new, Collectors.toList()));
+        if (eventsByUser.isEmpty()) {
+            return;
+        }
+
+        var users = userRepository.findAllById(eventsByUser.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        var rejections = new ArrayList<OrderIntakeRejection>();
+
+        eventsByUser.forEach((userId, userEvents) -> {
+            var user = users.get(userId);
+            if (Objects.isNull(user)) {
+                userEvents.forEach(event -> rejections.add(rejection(event, "User not found with id: " + userId)));
+                return;
+            }
+            rejections.addAll(createOrders(user, userEvents));
+        });
+
+        if (!rejections.isEmpty()) {
+            rejectionRepository.saveAll(rejections);
+        }
+        log.info("Processed {} order requests ({} rejected)", events.size(), rejections.size());
+    }
+
+    @Transactional
+    public void reject(OrderRequestedEvent event, String reason) {
+        rejectionRepository.save(rejection(event, reason));
+    }
+
+    private List<OrderIntakeRejection> createOrders(User user, List<OrderRequestedEvent> events) {
+        var requests = events.stream().map(this::toOrderRequest).toList();
+        var requestIds = events.stream().map(OrderRequestedEvent::getRequestId).toList();
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        try {
+            var responses = createOrderBatchUseCase.execute(requests, requestIds);
+
+            var rejections = new ArrayList<OrderIntakeRejection>();
+            for (int i = 0; i < responses.size(); i++) {
+                if (Objects.isNull(responses.get(i).getOrderId())) {
+                    rejections.add(rejection(events.get(i), responses.get(i).getMessage()));
+                }
+            }
+            return rejections;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private OrderRequest toOrderRequest(OrderRequestedEvent event) {
+        return new OrderRequest(event.getItems().stream()
+                .map(item -> new OrderItemsRequest(item.getProductId(), item.getQuantity()))
+                .toList());
+    }
+
+    private OrderIntakeRejection rejection(OrderRequestedEvent event, String reason) {
+        return OrderIntakeRejection.builder()
+                .requestId(event.getRequestId())
+                .userId(event.getUserId())
+                .reason(reason)
+                .build();
+    }
+
+}
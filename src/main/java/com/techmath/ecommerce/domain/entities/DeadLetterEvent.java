@@ -0,0 +1,88 @@
+package com.techmath.ecommerce.domain.entities;
+
+import com.techmath.ecommerce.domain.enums.DeadLetterStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "dead_letter_event_tb", uniqueConstraints = @UniqueConstraint(
+        name = "uk_dead_letter_original", columnNames = {"original_topic", "original_partition", "original_offset"}))
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(AuditingEntityListener.class)
+public class DeadLetterEvent implements Serializable {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "original_topic", nullable = false)
+    private String originalTopic;
+
+    @Column(name = "original_partition", nullable = false)
+    private Integer originalPartition;
+
+    @Column(name = "original_offset", nullable = false)
+    private Long originalOffset;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Builder.Default
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType = "application/json";
+
+    @Column(name = "exception_class")
+    private String exceptionClass;
+
+    @Column(name = "exception_message", columnDefinition = "TEXT")
+    private String exceptionMessage;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeadLetterStatus status = DeadLetterStatus.PENDING;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Column(name = "redriven_at")
+    private LocalDateTime redrivenAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public void markRedriven() {
+        this.status = DeadLetterStatus.REDRIVEN;
+        this.redrivenAt = LocalDateTime.now();
+    }
+
+}
@@ -3,11 +3,13 @@ package com.techmath.ecommerce.domain.entities;
 import com.techmath.ecommerce.domain.enums.OrderStatus;
 import com.techmath.ecommerce.domain.exceptions.InvalidOrderStateException;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -18,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -39,17 +42,26 @@ public class Order implements Serializable {
     private User user;
 
     @Builder.Default
+    @Setter(AccessLevel.NONE)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items = new ArrayList<>();
 
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
     @Column(nullable = false)
-    private BigDecimal totalAmount;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
 
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status = OrderStatus.PENDING;
 
+    @Column(name = "intake_request_id", unique = true)
+    private UUID intakeRequestId;
+
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -60,23 +72,28 @@ public class Order implements Serializable {
 
     public void addItem(Product product, Integer quantity) {
         checkPendingStatus();
+        appendItem(product, quantity);
+    }
 
-        OrderItem orderItem = OrderItem.builder()
-                .order(this)
-                .product(product)
-                .quantity(quantity)
-                .unitPrice(product.getPrice())
-                .build();
-        orderItem.calculateTotalPrice();
-
-        items.add(orderItem);
-        calculateTotal();
+    public void addItems(Map<Product, Integer> quantitiesByProduct) {
+        checkPendingStatus();
+        if (items instanceof ArrayList<OrderItem> list) {
+            list.ensureCapacity(items.size() + quantitiesByProduct.size());
+        }
+        quantitiesByProduct.forEach(this::appendItem);
     }
 
     public void removeItem(OrderItem item) {
         checkPendingStatus();
-        items.remove(item);
-        calculateTotal();
+        var iterator = items.iterator();
+        while (iterator.hasNext()) {
+            var existing = iterator.next();
+            if (existing.equals(item)) {
+                iterator.remove();
+                totalAmount = totalAmount.subtract(existing.getTotalPrice());
+                return;
+            }
+        }
     }
 
     public void processPayment() {
@@ -96,10 +113,17 @@ public class Order implements Serializable {
         return this.status == OrderStatus.CANCELLED;
     }
 
-    private void calculateTotal() {
-        this.totalAmount = items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void appendItem(Product product, Integer quantity) {
+        OrderItem orderItem = OrderItem.builder()
+                .order(this)
+                .product(product)
+                .quantity(quantity)
+                .unitPrice(product.getPrice())
+                .build();
+        orderItem.calculateTotalPrice();
+
+        items.add(orderItem);
+        totalAmount = totalAmount.add(orderItem.getTotalPrice());
     }
 
     private void checkPendingStatus() {
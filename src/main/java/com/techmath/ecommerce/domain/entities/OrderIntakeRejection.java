@@ -0,0 +1,43 @@
+package com.techmath.ecommerce.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "order_intake_rejection_tb")
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(AuditingEntityListener.class)
+public class OrderIntakeRejection implements Serializable {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "request_id")
+    private UUID requestId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String reason;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+}
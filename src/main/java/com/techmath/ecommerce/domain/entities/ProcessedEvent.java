@@ -0,0 +1,34 @@
+package com.techmath.ecommerce.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "processed_event_tb")
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ProcessedEvent implements Serializable {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "event_key", length = 100)
+    private String eventKey;
+
+    @Column(nullable = false, length = 50)
+    private String consumer;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+}
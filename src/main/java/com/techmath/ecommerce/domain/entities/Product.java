@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -53,6 +54,13 @@ public class Product implements Serializable {
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    @Builder.Default
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity = 0;
+
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -65,6 +73,10 @@ public class Product implements Serializable {
         this.stockQuantity -= quantity;
     }
 
+    public void reserveStock(Integer quantity) {
+        this.reservedQuantity += quantity;
+    }
+
     public void increaseStock(Integer quantity) {
         this.stockQuantity += quantity;
     }
@@ -77,4 +89,12 @@ public class Product implements Serializable {
         return hasStock() && stockQuantity >= quantity;
     }
 
+    public int getAvailableQuantity() {
+        return stockQuantity - reservedQuantity;
+    }
+
+    public boolean hasAvailableStock(int quantity) {
+        return getAvailableQuantity() > 0 && getAvailableQuantity() >= quantity;
+    }
+
 }
@@ -0,0 +1,6 @@
+package com.techmath.ecommerce.domain.enums;
+
+public enum DeadLetterStatus {
+    PENDING,
+    REDRIVEN
+}
@@ -0,0 +1,7 @@
+package com.techmath.ecommerce.domain.enums;
+
+public enum ReservationStatus {
+    ACTIVE,
+    CONVERTED,
+    RELEASED
+}
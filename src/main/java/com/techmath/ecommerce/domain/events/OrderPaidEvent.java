@@ -6,14 +6,42 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Data
 @NoArgsConstructor @AllArgsConstructor
 public class OrderPaidEvent {
 
+    public static final int CURRENT_VERSION = 2;
+
     private UUID orderId;
     private BigDecimal totalAmount;
     private LocalDateTime paidAt;
+    private boolean stockReserved;
+    private int version = 1;
+    private List<Item> items = List.of();
+
+    public OrderPaidEvent(UUID orderId, BigDecimal totalAmount, LocalDateTime paidAt, boolean stockReserved) {
+        this.orderId = orderId;
+        this.totalAmount = totalAmount;
+        this.paidAt = paidAt;
+        this.stockReserved = stockReserved;
+    }
+
+    public boolean hasItems() {
+        return version >= 2 && Objects.nonNull(items) && !items.isEmpty();
+    }
+
+    @Data
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Item {
+
+        private UUID productId;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+
+    }
 
 }
@@ -0,0 +1,29 @@
+package com.techmath.ecommerce.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor @AllArgsConstructor
+public class OrderRequestedEvent {
+
+    private UUID requestId;
+    private UUID userId;
+    private List<Item> items;
+    private LocalDateTime requestedAt;
+
+    @Data
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Item {
+
+        private UUID productId;
+        private Integer quantity;
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.techmath.ecommerce.domain.repositories;
+
+import com.techmath.ecommerce.domain.entities.DeadLetterEvent;
+import com.techmath.ecommerce.domain.enums.DeadLetterStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeadLetterEventRepository extends JpaRepository<DeadLetterEvent, UUID> {
+
+    Page<DeadLetterEvent> findAllByStatus(DeadLetterStatus status, Pageable pageable);
+
+    List<DeadLetterEvent> findAllByIdInAndStatus(Collection<UUID> ids, DeadLetterStatus status);
+
+}
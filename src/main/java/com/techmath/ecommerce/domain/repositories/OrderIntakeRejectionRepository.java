@@ -0,0 +1,11 @@
+package com.techmath.ecommerce.domain.repositories;
+
+import com.techmath.ecommerce.domain.entities.OrderIntakeRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface OrderIntakeRejectionRepository extends JpaRepository<OrderIntakeRejection, UUID> {
+}
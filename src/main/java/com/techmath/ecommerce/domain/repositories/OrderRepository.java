@@ -1,14 +1,17 @@
 package com.techmath.ecommerce.domain.repositories;
 
 import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
 import com.techmath.ecommerce.presentation.dto.response.ReportResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +25,23 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
             "WHERE o.id = :id")
     Optional<Order> findByIdWithItems(UUID id);
 
+    @Query("SELECT DISTINCT o FROM Order o " +
+            "INNER JOIN FETCH o.items i " +
+            "INNER JOIN FETCH i.product " +
+            "WHERE o.id IN :ids")
+    List<Order> findAllByIdWithItems(@Param("ids") Collection<UUID> ids);
+
+    Optional<Order> findByIntakeRequestId(UUID intakeRequestId);
+
+    @Query("SELECT o.intakeRequestId FROM Order o WHERE o.intakeRequestId IN :ids")
+    List<UUID> findIntakeRequestIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Order o " +
+            "SET o.status = :status, o.version = o.version + 1, o.updatedAt = LOCAL DATETIME " +
+            "WHERE o.id IN :ids AND o.status = 'PENDING'")
+    int updatePendingStatus(@Param("ids") Collection<UUID> ids, @Param("status") OrderStatus status);
+
     @Query("SELECT new com.techmath.ecommerce.presentation.dto.response.ReportResponse$TopUserReport(" +
             "u.id, u.name, u.email, COUNT(o), CAST(SUM(o.totalAmount) AS java.math.BigDecimal)) " +
             "FROM Order o " +
@@ -0,0 +1,19 @@
+package com.techmath.ecommerce.domain.repositories;
+
+import com.techmath.ecommerce.domain.entities.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :threshold")
+    int deleteProcessedBefore(@Param("threshold") LocalDateTime threshold);
+
+}
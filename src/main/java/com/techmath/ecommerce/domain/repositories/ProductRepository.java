@@ -1,11 +1,64 @@
 package com.techmath.ecommerce.domain.repositories;
 
 import com.techmath.ecommerce.domain.entities.Product;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
+
+    @Query("SELECT p.id AS id, p.stockQuantity AS stockQuantity, p.reservedQuantity AS reservedQuantity " +
+            "FROM Product p")
+    List<StockLevel> findAllStockLevels();
+
+    List<Product> findAllByOrderByIdAsc(Limit limit);
+
+    List<Product> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    List<Product> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p " +
+            "SET p.stockQuantity = p.stockQuantity - :quantity, " +
+            "p.reservedQuantity = p.reservedQuantity - :reserved, " +
+            "p.version = p.version + 1, " +
+            "p.updatedAt = LOCAL DATETIME " +
+            "WHERE p.id = :id " +
+            "AND p.reservedQuantity >= :reserved " +
+            "AND p.stockQuantity - p.reservedQuantity + :reserved >= :quantity")
+    int decreaseStock(@Param("id") UUID id, @Param("quantity") int quantity, @Param("reserved") int reserved);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p " +
+            "SET p.reservedQuantity = p.reservedQuantity + :quantity, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.stockQuantity - p.reservedQuantity >= :quantity")
+    int reserveStock(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p " +
+            "SET p.reservedQuantity = p.reservedQuantity - :quantity, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.reservedQuantity >= :quantity")
+    int releaseReservedStock(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    interface StockLevel {
+        UUID getId();
+        Integer getStockQuantity();
+        Integer getReservedQuantity();
+    }
+
 }
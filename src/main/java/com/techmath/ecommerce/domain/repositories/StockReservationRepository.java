@@ -0,0 +1,32 @@
+package com.techmath.ecommerce.domain.repositories;
+
+import com.techmath.ecommerce.domain.entities.StockReservation;
+import com.techmath.ecommerce.domain.enums.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, UUID> {
+
+    List<StockReservation> findByOrderIdAndStatus(UUID orderId, ReservationStatus status);
+
+    @Query("SELECT r FROM StockReservation r " +
+            "WHERE r.status = 'ACTIVE' AND r.expiresAt < :now " +
+            "ORDER BY r.expiresAt")
+    List<StockReservation> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE StockReservation r " +
+            "SET r.status = :status, r.updatedAt = LOCAL DATETIME " +
+            "WHERE r.orderId = :orderId AND r.status = 'ACTIVE'")
+    int updateActiveStatusByOrderId(@Param("orderId") UUID orderId, @Param("status") ReservationStatus status);
+
+}
@@ -0,0 +1,124 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+@Slf4j
+public class KeyOrderedExecutor implements AutoCloseable {
+
+    private static final Runnable POISON = () -> {};
+
+    private final Lane[] lanes;
+    private final int laneCapacity;
+    private volatile boolean closed;
+
+    public KeyOrderedExecutor(String name, int laneCount, int laneCapacity) {
+        this.laneCapacity = Math.max(1, laneCapacity);
+        this.lanes = new Lane[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(name + "-" + i, this.laneCapacity);
+        }
+    }
+
+    /**
+     * Queues the task on the lane of its key, waiting for room when that lane is full.
+     */
+    public void submit(Object key, Runnable task) {
+        var lane = lanes[Math.floorMod(Objects.hashCode(key), lanes.length)];
+        if (closed) {
+            throw new IllegalStateException("Lane " + lane.thread.getName() + " rejected the task, the executor is closed");
+        }
+        try {
+            lane.queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for room on lane " + lane.thread.getName(), e);
+        }
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    public int getLaneCapacity() {
+        return laneCapacity;
+    }
+
+    public int getQueuedTasks() {
+        var queued = 0;
+        for (var lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    public int getMaxLaneDepth() {
+        var depth = 0;
+        for (var lane : lanes) {
+            depth = Math.max(depth, lane.queue.size());
+        }
+        return depth;
+    }
+
+    public boolean awaitTermination(Duration timeout) throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        for (var lane : lanes) {
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !lane.thread.join(Duration.ofNanos(remaining))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (var lane : lanes) {
+            // A full lane is busy and stops on its own once it has drained.
+            lane.queue.offer(POISON);
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+
+        private Lane(String name, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = Thread.ofVirtual().name(name).start(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    var task = queue.take();
+                    if (task == POISON) {
+                        return;
+                    }
+                    runSafely(task);
+                    if (closed && queue.isEmpty()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void runSafely(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Task on lane {} failed: {}", thread.getName(), e.getMessage(), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public OptimisticLockRetryExecutor(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${concurrency.optimistic-retry.max-attempts:5}") int maxAttempts,
+            @Value("${concurrency.optimistic-retry.initial-backoff:PT0.01S}") Duration initialBackoff,
+            @Value("${concurrency.optimistic-retry.max-backoff:PT0.5S}") Duration maxBackoff
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public <T> T execute(String operation, Object resource, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+
+                meterRegistry.counter("optimistic.lock.conflicts", "operation", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.lock.exhausted", "operation", operation).increment();
+                    log.warn("Giving up {} on {} after {} conflicting attempts", operation, resource, attempt);
+                    throw e;
+                }
+
+                meterRegistry.counter("optimistic.lock.retries", "operation", operation).increment();
+                log.debug("Conflict on {} for {} (attempt {}), retrying", operation, resource, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, "none", () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private boolean isConflict(Throwable e) {
+        for (var cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void backOff(int attempt) {
+        var ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off from a conflict", e);
+        }
+    }
+
+}
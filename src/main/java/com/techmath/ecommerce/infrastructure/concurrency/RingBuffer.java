@@ -0,0 +1,130 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer. Slots are allocated once; producers claim a
+ * sequence and block while the buffer is full, the consumer drains contiguous published slots in
+ * batches of up to {@code batchSize}. The list handed to the consumer is reused between batches.
+ */
+@Slf4j
+public class RingBuffer<E> implements AutoCloseable {
+
+    private static final long PUBLISH_BACKOFF_NANOS = 1_000;
+
+    private final String name;
+    private final Object[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final Consumer<List<E>> consumer;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong(-1);
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean waiting;
+
+    public RingBuffer(String name, int capacity, int batchSize, Duration idleWait, Consumer<List<E>> consumer) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two, got " + capacity);
+        }
+        this.name = name;
+        this.entries = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.batchSize = Math.max(1, batchSize);
+        this.idleWaitNanos = idleWait.toNanos();
+        this.consumer = consumer;
+        this.thread = Thread.ofVirtual().name(name).start(this::consume);
+    }
+
+    public void publish(E entry) {
+        if (!running) {
+            throw new IllegalStateException("Ring buffer " + name + " is closed");
+        }
+        var sequence = claimed.getAndIncrement();
+        while (sequence - entries.length > consumed.get()) {
+            LockSupport.parkNanos(PUBLISH_BACKOFF_NANOS);
+        }
+
+        var index = (int) (sequence & mask);
+        entries[index] = entry;
+        published.set(index, sequence);
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    public long getBacklog() {
+        return Math.max(0, claimed.get() - consumed.get() - 1);
+    }
+
+    public boolean awaitTermination(Duration timeout) throws InterruptedException {
+        return thread.join(timeout);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void consume() {
+        var batch = new ArrayList<E>(batchSize);
+        var next = 0L;
+        while (true) {
+            while (batch.size() < batchSize && isPublished(next)) {
+                var index = (int) (next & mask);
+                batch.add((E) entries[index]);
+                entries[index] = null;
+                next++;
+            }
+
+            if (batch.isEmpty()) {
+                if (!running && claimed.get() == next) {
+                    return;
+                }
+                waiting = true;
+                if (!isPublished(next)) {
+                    LockSupport.parkNanos(this, idleWaitNanos);
+                }
+                waiting = false;
+                continue;
+            }
+
+            consumed.set(next - 1);
+            deliver(batch);
+            batch.clear();
+        }
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) (sequence & mask)) == sequence;
+    }
+
+    private void deliver(List<E> batch) {
+        try {
+            consumer.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("Batch of {} entries on {} failed: {}", batch.size(), name, e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.techmath.ecommerce.infrastructure.inventory;
+
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class HotProductStockQueue {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchService productSearchService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration idleTimeout;
+    private final Duration submitTimeout;
+    private final Set<UUID> hotProducts = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, ProductWriter> writers = new ConcurrentHashMap<>();
+
+    public HotProductStockQueue(
+            ProductRepository productRepository,
+            ProductSearchService productSearchService,
+            PlatformTransactionManager transactionManager,
+            @Value("${inventory.hot-products.ids:}") String hotProductIds,
+            @Value("${inventory.hot-products.batch-size:200}") int batchSize,
+            @Value("${inventory.hot-products.idle-timeout:PT30S}") Duration idleTimeout,
+            @Value("${inventory.hot-products.submit-timeout:PT5S}") Duration submitTimeout
+    ) {
+        this.productRepository = productRepository;
+        this.productSearchService = productSearchService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.idleTimeout = idleTimeout;
+        this.submitTimeout = submitTimeout;
+        Arrays.stream(StringUtils.split(hotProductIds, ','))
+                .map(String::trim)
+                .map(UUID::fromString)
+                .forEach(hotProducts::add);
+    }
+
+    public boolean isHot(UUID productId) {
+        return hotProducts.contains(productId);
+    }
+
+    public Set<UUID> getHotProducts() {
+        return Set.copyOf(hotProducts);
+    }
+
+    public void markHot(UUID productId) {
+        hotProducts.add(productId);
+        log.info("Product {} marked as hot, stock changes now go through its single-writer queue", productId);
+    }
+
+    public void unmarkHot(UUID productId) {
+        hotProducts.remove(productId);
+        log.info("Product {} is no longer hot", productId);
+    }
+
+    public CompletableFuture<Void> submit(UUID productId, int quantity, int reserved) {
+        return enqueue(productId, quantity, reserved).result();
+    }
+
+    public void decreaseStock(UUID productId, int quantity, int reserved) {
+        var command = enqueue(productId, quantity, reserved);
+        try {
+            command.result().get(submitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(productId, command);
+            throw new IllegalStateException("Timed out after " + submitTimeout + " waiting for the stock update of hot product " + productId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(productId, command);
+            throw new IllegalStateException("Interrupted while waiting for the stock update of hot product " + productId, e);
+        }
+    }
+
+    public void compensate(UUID productId, int quantity, int reserved) {
+        submit(productId, -quantity, -reserved).whenComplete((result, error) -> {
+            if (error != null) {
+                log.error("Failed to compensate stock change (quantity: {}, reserved: {}) for hot product {}: {}",
+                        quantity, reserved, productId, error.getMessage(), error);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hotProducts.clear();
+        writers.values().forEach(ProductWriter::interrupt);
+    }
+
+    private StockCommand enqueue(UUID productId, int quantity, int reserved) {
+        var command = new StockCommand(quantity, reserved, new CompletableFuture<>(), new AtomicBoolean());
+        var writer = writers.computeIfAbsent(productId, ProductWriter::new);
+        while (!writer.offer(command)) {
+            writer = writers.computeIfAbsent(productId, ProductWriter::new);
+        }
+        return command;
+    }
+
+    private void abandon(UUID productId, StockCommand command) {
+        if (!command.abandon()) {
+            // The writer already took the command, so undo it once it lands.
+            command.result().thenRun(() -> compensate(productId, command.quantity(), command.reserved()));
+        }
+    }
+
+    private void commit(UUID productId, List<StockCommand> commands) {
+        commands.removeIf(command -> !command.claim());
+        if (commands.isEmpty()) {
+            return;
+        }
+        var totalQuantity = commands.stream().mapToInt(StockCommand::quantity).sum();
+        var totalReserved = commands.stream().mapToInt(StockCommand::reserved).sum();
+
+        try {
+            var grouped = transactionTemplate.execute(status ->
+                    productRepository.decreaseStock(productId, totalQuantity, totalReserved) > 0);
+
+            if (Boolean.TRUE.equals(grouped)) {
+                commands.forEach(command -> command.result().complete(null));
+            } else {
+                commitIndividually(productId, commands);
+            }
+
+            productRepository.findById(productId).ifPresent(productSearchService::syncStock);
+        } catch (Exception e) {
+            log.error("Failed to commit {} stock changes for hot product {}: {}", commands.size(), productId, e.getMessage(), e);
+            commands.forEach(command -> command.result().completeExceptionally(e));
+        }
+    }
+
+    private void commitIndividually(UUID productId, List<StockCommand> commands) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (var command : commands) {
+                if (productRepository.decreaseStock(productId, command.quantity(), command.reserved()) > 0) {
+                    command.result().complete(null);
+                } else {
+                    command.result().completeExceptionally(
+                            new InsufficientStockException("Insufficient stock for product: " + productId));
+                }
+            }
+        });
+    }
+
+    private record StockCommand(int quantity, int reserved, CompletableFuture<Void> result, AtomicBoolean taken) {
+
+        private boolean claim() {
+            return taken.compareAndSet(false, true);
+        }
+
+        private boolean abandon() {
+            return taken.compareAndSet(false, true);
+        }
+
+    }
+
+    private final class ProductWriter implements Runnable {
+
+        private final UUID productId;
+        private final BlockingQueue<StockCommand> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+        private boolean closed;
+
+        private ProductWriter(UUID productId) {
+            this.productId = productId;
+            this.thread = Thread.ofVirtual().name("hot-product-writer-" + productId).start(this);
+        }
+
+        private synchronized boolean offer(StockCommand command) {
+            return !closed && queue.offer(command);
+        }
+
+        private synchronized boolean closeIfIdle() {
+            if (queue.isEmpty()) {
+                closed = true;
+                writers.remove(productId, this);
+            }
+            return closed;
+        }
+
+        private void interrupt() {
+            thread.interrupt();
+        }
+
+        @Override
+        public void run() {
+            var batch = new ArrayList<StockCommand>(batchSize);
+            try {
+                while (true) {
+                    var first = queue.poll(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        if (closeIfIdle()) {
+                            return;
+                        }
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    commit(productId, batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                synchronized (this) {
+                    closed = true;
+                    writers.remove(productId, this);
+                }
+                queue.drainTo(batch);
+                if (!batch.isEmpty()) {
+                    commit(productId, batch);
+                }
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.techmath.ecommerce.infrastructure.inventory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class InventoryJournal {
+
+    private static final String ACTIVE_SEGMENT = "active.journal";
+    private static final String SEALED_SUFFIX = ".sealed";
+    private static final int ENTRY_SIZE = Long.BYTES * 2 + Integer.BYTES * 2;
+
+    private final Path directory;
+    private final boolean syncWrites;
+    private final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+    private FileChannel channel;
+
+    public InventoryJournal(Path directory, boolean syncWrites) {
+        this.directory = directory;
+        this.syncWrites = syncWrites;
+        try {
+            Files.createDirectories(directory);
+            this.channel = openActiveSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open inventory journal at " + directory, e);
+        }
+    }
+
+    public synchronized void append(UUID productId, int stockDelta, int reservedDelta) {
+        buffer.clear();
+        buffer.putLong(productId.getMostSignificantBits())
+                .putLong(productId.getLeastSignificantBits())
+                .putInt(stockDelta)
+                .putInt(reservedDelta)
+                .flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (syncWrites) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append to inventory journal", e);
+        }
+    }
+
+    public synchronized Path seal(UUID batchId) {
+        try {
+            channel.force(false);
+            channel.close();
+            var sealed = directory.resolve(batchId + SEALED_SUFFIX);
+            Files.move(directory.resolve(ACTIVE_SEGMENT), sealed, StandardCopyOption.ATOMIC_MOVE);
+            channel = openActiveSegment();
+            return sealed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to seal inventory journal segment", e);
+        }
+    }
+
+    public synchronized boolean isActiveSegmentEmpty() {
+        try {
+            return channel.size() == 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<Path> sealedSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEALED_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public UUID batchIdOf(Path segment) {
+        var fileName = segment.getFileName().toString();
+        return UUID.fromString(fileName.substring(0, fileName.length() - SEALED_SUFFIX.length()));
+    }
+
+    public List<Entry> read(Path segment) {
+        var entries = new ArrayList<Entry>();
+        try (var input = FileChannel.open(segment, StandardOpenOption.READ)) {
+            var entry = ByteBuffer.allocate(ENTRY_SIZE);
+            while (readFully(input, entry)) {
+                entry.flip();
+                entries.add(new Entry(new UUID(entry.getLong(), entry.getLong()), entry.getInt(), entry.getInt()));
+                entry.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read inventory journal segment " + segment, e);
+        }
+        return entries;
+    }
+
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FileChannel openActiveSegment() throws IOException {
+        return FileChannel.open(directory.resolve(ACTIVE_SEGMENT),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private boolean readFully(FileChannel input, ByteBuffer entry) throws IOException {
+        try {
+            while (entry.hasRemaining()) {
+                if (input.read(entry) < 0) {
+                    throw new EOFException();
+                }
+            }
+            return true;
+        } catch (EOFException e) {
+            // A torn tail entry means the process died mid-append; it was never applied.
+            return false;
+        }
+    }
+
+    public record Entry(UUID productId, int stockDelta, int reservedDelta) {}
+
+}
@@ -0,0 +1,421 @@
+package com.techmath.ecommerce.infrastructure.inventory;
+
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+public class InventoryLedger {
+
+    private static final String APPLY_DELTA_SQL = "UPDATE product_tb " +
+            "SET stock_quantity = stock_quantity + ?, reserved_quantity = reserved_quantity + ?, version = version + 1, updated_at = ? " +
+            "WHERE product_id = ?";
+    private static final String COUNT_FLUSH_SQL = "SELECT COUNT(*) FROM inventory_ledger_flush_tb WHERE batch_id = ?";
+    private static final String INSERT_FLUSH_SQL = "INSERT INTO inventory_ledger_flush_tb (batch_id, entries, flushed_at) VALUES (?, ?, ?)";
+    private static final String DELETE_FLUSH_SQL = "DELETE FROM inventory_ledger_flush_tb WHERE batch_id = ?";
+    private static final String PURGE_FLUSH_SQL = "DELETE FROM inventory_ledger_flush_tb WHERE flushed_at < ?";
+
+    private final ProductRepository productRepository;
+    private final ProductSearchService productSearchService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path journalDirectory;
+    private final boolean syncWrites;
+    private final Duration flushRetention;
+    private final Stripe[] stripes;
+
+    public InventoryLedger(
+            ProductRepository productRepository,
+            ProductSearchService productSearchService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${inventory.ledger.stripes:64}") int stripeCount,
+            @Value("${inventory.ledger.journal.directory:./data/inventory-journal}") Path journalDirectory,
+            @Value("${inventory.ledger.journal.sync-writes:true}") boolean syncWrites,
+            @Value("${inventory.ledger.flush-retention:P7D}") Duration flushRetention
+    ) {
+        this.productRepository = productRepository;
+        this.productSearchService = productSearchService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.journalDirectory = journalDirectory;
+        this.syncWrites = syncWrites;
+        this.flushRetention = flushRetention;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(new InventoryJournal(stripeDirectory(i), syncWrites));
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        recoverJournals();
+        var seeded = 0;
+        for (var level : productRepository.findAllStockLevels()) {
+            stripeFor(level.getId()).counters.put(level.getId(),
+                    new StockCounter(level.getStockQuantity() - level.getReservedQuantity()));
+            seeded++;
+        }
+        log.info("Inventory ledger seeded with {} products", seeded);
+    }
+
+    public boolean decrease(UUID productId, int quantity) {
+        return applyTransactional(productId, -quantity, 0, true);
+    }
+
+    public boolean reserve(UUID productId, int quantity) {
+        return applyTransactional(productId, 0, quantity, true);
+    }
+
+    public void release(UUID productId, int quantity) {
+        applyTransactional(productId, 0, -quantity, false);
+    }
+
+    public void commitReserved(UUID productId, int quantity) {
+        applyTransactional(productId, -quantity, -quantity, false);
+    }
+
+    public int getAvailableQuantity(UUID productId) {
+        var stripe = stripeFor(productId);
+        stripe.lock.lock();
+        try {
+            return stripe.counters.computeIfAbsent(productId, this::loadCounter).available;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void reload(UUID productId) {
+        var stripe = stripeFor(productId);
+        stripe.flushLock.lock();
+        stripe.lock.lock();
+        try {
+            var persisted = loadCounter(productId);
+            var unflushed = 0;
+            for (var batch : stripe.sealedBatches) {
+                for (var delta : batch.deltas()) {
+                    if (delta.productId().equals(productId)) {
+                        unflushed += delta.stockDelta() - delta.reservedDelta();
+                    }
+                }
+            }
+            var counter = stripe.counters.get(productId);
+            if (counter == null) {
+                stripe.counters.put(productId, new StockCounter(persisted.available + unflushed));
+            } else {
+                counter.available = persisted.available + unflushed + counter.pendingStock - counter.pendingReserved
+                        + counter.uncommitted;
+            }
+        } finally {
+            stripe.lock.unlock();
+            stripe.flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        for (var stripe : stripes) {
+            stripe.journal.close();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval:PT1S}")
+    public void flush() {
+        for (var stripe : stripes) {
+            flush(stripe);
+        }
+    }
+
+    public void flush(UUID productId) {
+        if (!flush(stripeFor(productId))) {
+            throw new IllegalStateException("Pending inventory changes for product " + productId + " could not be flushed");
+        }
+    }
+
+    private boolean flush(Stripe stripe) {
+        stripe.flushLock.lock();
+        try {
+            sealPendingDeltas(stripe);
+
+            FlushBatch batch;
+            while ((batch = stripe.sealedBatches.peek()) != null) {
+                try {
+                    writeBatch(batch.id(), batch.deltas());
+                    stripe.journal.delete(batch.segment());
+                    stripe.sealedBatches.poll();
+                    forgetBatch(batch.id());
+                    syncSearchIndex(batch.deltas());
+                } catch (Exception e) {
+                    log.error("Failed to flush inventory batch {}, it will be retried: {}", batch.id(), e.getMessage(), e);
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            stripe.flushLock.unlock();
+        }
+    }
+
+    public int purgeFlushedBatches() {
+        return jdbcTemplate.update(PURGE_FLUSH_SQL, Timestamp.valueOf(LocalDateTime.now().minus(flushRetention)));
+    }
+
+    private boolean applyTransactional(UUID productId, int stockDelta, int reservedDelta, boolean guarded) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return apply(productId, stockDelta, reservedDelta, guarded);
+        }
+        // Only the counter moves before commit; the delta is journaled once the caller's transaction commits,
+        // so a crash before commit never replays it.
+        if (!hold(productId, stockDelta - reservedDelta, guarded)) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                settle(productId, stockDelta, reservedDelta, status == STATUS_COMMITTED);
+            }
+        });
+        return true;
+    }
+
+    private boolean apply(UUID productId, int stockDelta, int reservedDelta, boolean guarded) {
+        var availableDelta = stockDelta - reservedDelta;
+
+        var stripe = stripeFor(productId);
+        stripe.lock.lock();
+        try {
+            var counter = stripe.counters.computeIfAbsent(productId, this::loadCounter);
+            if (guarded && counter.available + availableDelta < 0) {
+                return false;
+            }
+            stripe.journal.append(productId, stockDelta, reservedDelta);
+            counter.available += availableDelta;
+            counter.pendingStock += stockDelta;
+            counter.pendingReserved += reservedDelta;
+        } finally {
+            stripe.lock.unlock();
+        }
+        return true;
+    }
+
+    private boolean hold(UUID productId, int availableDelta, boolean guarded) {
+        var stripe = stripeFor(productId);
+        stripe.lock.lock();
+        try {
+            var counter = stripe.counters.computeIfAbsent(productId, this::loadCounter);
+            if (guarded && counter.available + availableDelta < 0) {
+                return false;
+            }
+            counter.available += availableDelta;
+            counter.uncommitted += availableDelta;
+        } finally {
+            stripe.lock.unlock();
+        }
+        return true;
+    }
+
+    private void settle(UUID productId, int stockDelta, int reservedDelta, boolean committed) {
+        var availableDelta = stockDelta - reservedDelta;
+
+        var stripe = stripeFor(productId);
+        stripe.lock.lock();
+        try {
+            var counter = stripe.counters.computeIfAbsent(productId, this::loadCounter);
+            counter.uncommitted -= availableDelta;
+            if (!committed) {
+                counter.available -= availableDelta;
+                return;
+            }
+            counter.pendingStock += stockDelta;
+            counter.pendingReserved += reservedDelta;
+            stripe.journal.append(productId, stockDelta, reservedDelta);
+        } catch (RuntimeException e) {
+            log.error("Failed to journal committed inventory change for product {}, it is only kept in memory until the next flush: {}",
+                    productId, e.getMessage(), e);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void sealPendingDeltas(Stripe stripe) {
+        stripe.lock.lock();
+        try {
+            var deltas = new ArrayList<StockDelta>();
+            stripe.counters.forEach((productId, counter) -> {
+                if (counter.pendingStock != 0 || counter.pendingReserved != 0) {
+                    deltas.add(new StockDelta(productId, counter.pendingStock, counter.pendingReserved));
+                    counter.pendingStock = 0;
+                    counter.pendingReserved = 0;
+                }
+            });
+            if (!deltas.isEmpty()) {
+                var batchId = UUID.randomUUID();
+                stripe.sealedBatches.add(new FlushBatch(batchId, stripe.journal.seal(batchId), deltas));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void recoverJournals() {
+        for (var stripe : stripes) {
+            recoverJournal(stripe.journal);
+        }
+        // Segments left behind by a previous run with more stripes still hold unflushed deltas.
+        for (int i = stripes.length; Files.isDirectory(stripeDirectory(i)); i++) {
+            var journal = new InventoryJournal(stripeDirectory(i), syncWrites);
+            try {
+                recoverJournal(journal);
+            } finally {
+                journal.close();
+            }
+        }
+    }
+
+    private void recoverJournal(InventoryJournal journal) {
+        if (!journal.isActiveSegmentEmpty()) {
+            journal.seal(UUID.randomUUID());
+        }
+
+        for (var segment : journal.sealedSegments()) {
+            var deltas = aggregate(journal.read(segment));
+            if (!deltas.isEmpty()) {
+                writeBatch(journal.batchIdOf(segment), deltas);
+            }
+            journal.delete(segment);
+            forgetBatch(journal.batchIdOf(segment));
+            log.info("Recovered inventory journal segment {} with {} products", segment.getFileName(), deltas.size());
+        }
+    }
+
+    private void writeBatch(UUID batchId, List<StockDelta> deltas) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            var flushed = jdbcTemplate.queryForObject(COUNT_FLUSH_SQL, Integer.class, toBytes(batchId));
+            if (flushed != null && flushed > 0) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+                ps.setInt(1, delta.stockDelta());
+                ps.setInt(2, delta.reservedDelta());
+                ps.setTimestamp(3, now);
+                ps.setBytes(4, toBytes(delta.productId()));
+            });
+            jdbcTemplate.update(INSERT_FLUSH_SQL, toBytes(batchId), deltas.size(), now);
+        });
+    }
+
+    // The batch id only guards the replay of its journal segment, so it is dropped once the segment is gone.
+    // Ids left behind by a crash in between are removed by purgeFlushedBatches.
+    private void forgetBatch(UUID batchId) {
+        try {
+            jdbcTemplate.update(DELETE_FLUSH_SQL, (Object) toBytes(batchId));
+        } catch (Exception e) {
+            log.warn("Failed to remove flushed inventory batch {}, it will be purged later: {}", batchId, e.getMessage());
+        }
+    }
+
+    private void syncSearchIndex(List<StockDelta> deltas) {
+        var productIds = deltas.stream()
+                .filter(delta -> delta.stockDelta() != 0)
+                .map(StockDelta::productId)
+                .toList();
+        if (!productIds.isEmpty()) {
+            productSearchService.syncStocks(productRepository.findAllById(productIds));
+        }
+    }
+
+    private List<StockDelta> aggregate(List<InventoryJournal.Entry> entries) {
+        var totals = new LinkedHashMap<UUID, int[]>();
+        for (var entry : entries) {
+            var total = totals.computeIfAbsent(entry.productId(), id -> new int[2]);
+            total[0] += entry.stockDelta();
+            total[1] += entry.reservedDelta();
+        }
+        return totals.entrySet().stream()
+                .map(total -> new StockDelta(total.getKey(), total.getValue()[0], total.getValue()[1]))
+                .toList();
+    }
+
+    private StockCounter loadCounter(UUID productId) {
+        var product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + productId));
+        return new StockCounter(product.getAvailableQuantity());
+    }
+
+    private Stripe stripeFor(UUID productId) {
+        return stripes[Math.floorMod(productId.hashCode(), stripes.length)];
+    }
+
+    private Path stripeDirectory(int index) {
+        return journalDirectory.resolve("stripe-" + index);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static final class StockCounter {
+        private int available;
+        private int pendingStock;
+        private int pendingReserved;
+        private int uncommitted;
+
+        private StockCounter(int available) {
+            this.available = available;
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final Map<UUID, StockCounter> counters = new HashMap<>();
+        private final Queue<FlushBatch> sealedBatches = new ConcurrentLinkedQueue<>();
+        private final InventoryJournal journal;
+
+        private Stripe(InventoryJournal journal) {
+            this.journal = journal;
+        }
+    }
+
+    private record StockDelta(UUID productId, int stockDelta, int reservedDelta) {}
+
+    private record FlushBatch(UUID id, Path segment, List<StockDelta> deltas) {}
+
+}
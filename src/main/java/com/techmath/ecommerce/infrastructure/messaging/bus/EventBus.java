@@ -0,0 +1,15 @@
+package com.techmath.ecommerce.infrastructure.messaging.bus;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface EventBus {
+
+    /**
+     * Publishes a domain event once the surrounding transaction commits, keyed by its aggregate.
+     */
+    void publishAfterCommit(String topic, UUID aggregateId, Object event);
+
+    CompletableFuture<Void> publish(String topic, String key, Object event);
+
+}
@@ -0,0 +1,61 @@
+package com.techmath.ecommerce.infrastructure.messaging.bus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmath.ecommerce.domain.entities.OutboxEvent;
+import com.techmath.ecommerce.domain.repositories.OutboxEventRepository;
+import com.techmath.ecommerce.infrastructure.messaging.codec.BinaryEventCodec;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventFormat;
+import com.techmath.ecommerce.infrastructure.messaging.config.KafkaTemplateRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "messaging", name = "transport", havingValue = "kafka", matchIfMissing = true)
+public class KafkaEventBus implements EventBus {
+
+    private final KafkaTemplateRegistry kafkaTemplates;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAfterCommit(String topic, UUID aggregateId, Object event) {
+        var format = kafkaTemplates.formatFor(topic);
+
+        var outboxEvent = OutboxEvent.builder()
+                .aggregateId(aggregateId)
+                .eventType(event.getClass().getSimpleName())
+                .topic(topic)
+                .messageKey(aggregateId.toString())
+                .payload(write(event, format))
+                .contentType(format.getContentType())
+                .build();
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String topic, String key, Object event) {
+        return kafkaTemplates.forTopic(topic).send(topic, key, event).thenApply(result -> null);
+    }
+
+    private String write(Object event, EventFormat format) {
+        if (format == EventFormat.BINARY) {
+            return Base64.getEncoder().encodeToString(BinaryEventCodec.DEFAULT.encode(event));
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.techmath.ecommerce.infrastructure.messaging.bus;
+
+import com.techmath.ecommerce.infrastructure.concurrency.RingBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "messaging", name = "transport", havingValue = "ring-buffer")
+public class RingBufferEventBus implements EventBus {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Map<String, RingBuffer<Object>> topics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration idleWait;
+
+    public RingBufferEventBus(
+            MeterRegistry meterRegistry,
+            @Value("${messaging.ring-buffer.capacity:65536}") int capacity,
+            @Value("${messaging.ring-buffer.batch-size:256}") int batchSize,
+            @Value("${messaging.ring-buffer.idle-wait:PT0.001S}") Duration idleWait
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.idleWait = idleWait;
+    }
+
+    public synchronized void subscribe(String topic, Consumer<List<Object>> listener) {
+        if (topics.containsKey(topic)) {
+            throw new IllegalStateException("Topic " + topic + " already has a subscriber");
+        }
+        var ring = new RingBuffer<>("event-bus-" + topic, capacity, batchSize, idleWait, listener);
+        topics.put(topic, ring);
+        meterRegistry.gauge("event.bus.backlog", Tags.of("topic", topic), ring, RingBuffer::getBacklog);
+        log.info("Subscribed to {} on the in-memory event bus (capacity {}, batch size {})", topic, capacity, batchSize);
+    }
+
+    @Override
+    public void publishAfterCommit(String topic, UUID aggregateId, Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(topic, aggregateId.toString(), event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(topic, aggregateId.toString(), event).exceptionally(e -> {
+                    log.error("Failed to publish {} for {} to {}: {}",
+                            event.getClass().getSimpleName(), aggregateId, topic, e.getMessage());
+                    return null;
+                });
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String topic, String key, Object event) {
+        var ring = topics.get(topic);
+        if (ring == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("No subscriber for topic " + topic));
+        }
+        try {
+            ring.publish(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        topics.values().forEach(RingBuffer::close);
+        for (var entry : topics.entrySet()) {
+            if (!entry.getValue().awaitTermination(SHUTDOWN_TIMEOUT)) {
+                log.warn("{} events on {} were not delivered before shutdown", entry.getValue().getBacklog(), entry.getKey());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class BinaryEventCodec {
+
+    public static final BinaryEventCodec DEFAULT = new BinaryEventCodec(List.of(new OrderPaidEventSchema()));
+
+    private static final int MAGIC = 0xEC;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 2;
+
+    private final Map<Class<?>, EventSchema<?>> schemasByType;
+    private final Map<String, EventSchema<?>> schemasByName;
+
+    public BinaryEventCodec(List<EventSchema<?>> schemas) {
+        this.schemasByType = schemas.stream().collect(Collectors.toUnmodifiableMap(EventSchema::type, Function.identity()));
+        this.schemasByName = schemas.stream().collect(Collectors.toUnmodifiableMap(EventSchema::name, Function.identity()));
+    }
+
+    public boolean supports(Class<?> type) {
+        return schemasByType.containsKey(type);
+    }
+
+    public String eventTypeOf(Class<?> type) {
+        return schemaFor(type).name();
+    }
+
+    public byte[] encode(Object event) {
+        var writer = new BinaryWriter(64);
+        writer.writeRawByte(MAGIC);
+        writer.writeRawByte(FORMAT_VERSION);
+        write(schemaFor(event.getClass()), event, writer);
+        return writer.toByteArray();
+    }
+
+    public Object decode(String eventType, byte[] data) {
+        var schema = schemasByName.get(eventType);
+        if (Objects.isNull(schema)) {
+            throw new SerializationException("No binary schema for event type: " + eventType);
+        }
+        if (data.length < HEADER_SIZE || (data[0] & 0xFF) != MAGIC) {
+            throw new SerializationException("Payload is not a binary " + eventType);
+        }
+        if ((data[1] & 0xFF) > FORMAT_VERSION) {
+            throw new SerializationException("Unsupported binary format version: " + (data[1] & 0xFF));
+        }
+        return schema.read(new BinaryReader(data, HEADER_SIZE, data.length));
+    }
+
+    public <T> T decode(Class<T> type, byte[] data) {
+        return type.cast(decode(eventTypeOf(type), data));
+    }
+
+    private EventSchema<?> schemaFor(Class<?> type) {
+        var schema = schemasByType.get(type);
+        if (Objects.isNull(schema)) {
+            throw new SerializationException("No binary schema for " + type.getName());
+        }
+        return schema;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void write(EventSchema<T> schema, Object event, BinaryWriter writer) {
+        schema.write((T) event, writer);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+    private int wireType;
+
+    public BinaryReader(byte[] buffer, int offset, int limit) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = limit;
+    }
+
+    public boolean hasMore() {
+        return position < limit;
+    }
+
+    public int nextTag() {
+        var key = readRawVarint();
+        wireType = (int) (key & 0x7);
+        return (int) (key >>> 3);
+    }
+
+    public UUID readUuid() {
+        var length = readLength();
+        if (length != 16) {
+            throw new SerializationException("Invalid UUID length: " + length);
+        }
+        return new UUID(readRawLong(), readRawLong());
+    }
+
+    public BigDecimal readDecimal() {
+        var length = readLength();
+        var end = position + length;
+        var scale = (int) zigZag(readRawVarint());
+        var unscaled = new BigInteger(Arrays.copyOfRange(buffer, position, end));
+        position = end;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    public LocalDateTime readTimestamp() {
+        var micros = readLong();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    public boolean readBoolean() {
+        expect(BinaryWriter.VARINT);
+        return readRawVarint() != 0;
+    }
+
+    public long readLong() {
+        expect(BinaryWriter.VARINT);
+        return zigZag(readRawVarint());
+    }
+
+    public int readInt() {
+        return Math.toIntExact(readLong());
+    }
+
+    public String readString() {
+        var length = readLength();
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public BinaryReader readNested() {
+        var length = readLength();
+        var nested = new BinaryReader(buffer, position, position + length);
+        position += length;
+        return nested;
+    }
+
+    public int readRawByte() {
+        checkAvailable(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public void skip() {
+        switch (wireType) {
+            case BinaryWriter.VARINT -> readRawVarint();
+            case BinaryWriter.BYTES -> {
+                var length = (int) readRawVarint();
+                checkAvailable(length);
+                position += length;
+            }
+            default -> throw new SerializationException("Unknown wire type: " + wireType);
+        }
+    }
+
+    private int readLength() {
+        expect(BinaryWriter.BYTES);
+        var length = (int) readRawVarint();
+        checkAvailable(length);
+        return length;
+    }
+
+    private void expect(int expectedWireType) {
+        if (wireType != expectedWireType) {
+            throw new SerializationException("Expected wire type " + expectedWireType + " but found " + wireType);
+        }
+    }
+
+    private long readRawVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            checkAvailable(1);
+            var b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint");
+    }
+
+    private long readRawLong() {
+        checkAvailable(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > limit) {
+            throw new SerializationException("Truncated event payload");
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public final class BinaryWriter {
+
+    static final int VARINT = 0;
+    static final int BYTES = 2;
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryWriter writeUuid(int tag, UUID value) {
+        if (Objects.nonNull(value)) {
+            writeKey(tag, BYTES);
+            writeRawVarint(16);
+            writeRawLong(value.getMostSignificantBits());
+            writeRawLong(value.getLeastSignificantBits());
+        }
+        return this;
+    }
+
+    public BinaryWriter writeDecimal(int tag, BigDecimal value) {
+        if (Objects.nonNull(value)) {
+            var unscaled = value.unscaledValue().toByteArray();
+            var scale = zigZag(value.scale());
+            writeKey(tag, BYTES);
+            writeRawVarint(varintSize(scale) + unscaled.length);
+            writeRawVarint(scale);
+            writeRawBytes(unscaled);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeTimestamp(int tag, LocalDateTime value) {
+        if (Objects.nonNull(value)) {
+            var micros = value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+            writeLong(tag, micros);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(int tag, boolean value) {
+        if (value) {
+            writeKey(tag, VARINT);
+            writeRawVarint(1);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeLong(int tag, long value) {
+        writeKey(tag, VARINT);
+        writeRawVarint(zigZag(value));
+        return this;
+    }
+
+    public BinaryWriter writeString(int tag, String value) {
+        if (Objects.nonNull(value)) {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeKey(tag, BYTES);
+            writeRawVarint(bytes.length);
+            writeRawBytes(bytes);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeNested(int tag, Consumer<BinaryWriter> body) {
+        var nested = new BinaryWriter(32);
+        body.accept(nested);
+        writeKey(tag, BYTES);
+        writeRawVarint(nested.position);
+        ensureCapacity(nested.position);
+        System.arraycopy(nested.buffer, 0, buffer, position, nested.position);
+        position += nested.position;
+        return this;
+    }
+
+    public void writeRawByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeKey(int tag, int wireType) {
+        writeRawVarint(((long) tag << 3) | wireType);
+    }
+
+    private void writeRawVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeRawLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeRawBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int varintSize(long value) {
+        var size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+}
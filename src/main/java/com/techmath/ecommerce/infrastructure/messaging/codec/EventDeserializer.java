@@ -0,0 +1,61 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.ClassUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+public class EventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> json = new JsonDeserializer<>();
+    private final BinaryEventCodec codec = BinaryEventCodec.DEFAULT;
+    private String defaultEventType;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        var defaultType = configs.get(JsonDeserializer.VALUE_DEFAULT_TYPE);
+        if (Objects.nonNull(defaultType)) {
+            var type = defaultType instanceof Class<?> clazz
+                    ? clazz
+                    : ClassUtils.resolveClassName(defaultType.toString(), ClassUtils.getDefaultClassLoader());
+            defaultEventType = codec.supports(type) ? codec.eventTypeOf(type) : null;
+        }
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return json.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (Objects.isNull(data)) {
+            return null;
+        }
+        if (EventFormat.fromContentType(header(headers, EventFormat.CONTENT_TYPE_HEADER)) == EventFormat.BINARY) {
+            var eventType = Objects.toString(header(headers, EventFormat.EVENT_TYPE_HEADER), defaultEventType);
+            if (Objects.isNull(eventType)) {
+                throw new SerializationException("Binary event on " + topic + " has no event type");
+            }
+            return codec.decode(eventType, data);
+        }
+        return json.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    private static String header(Headers headers, String name) {
+        var header = Objects.isNull(headers) ? null : headers.lastHeader(name);
+        return Objects.isNull(header) ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import java.util.Arrays;
+
+public enum EventFormat {
+
+    JSON("application/json"),
+    BINARY("application/vnd.techmath.event+binary");
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String EVENT_TYPE_HEADER = "event-type";
+
+    private final String contentType;
+
+    EventFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static EventFormat fromContentType(String contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.contentType.equals(contentType))
+                .findFirst()
+                .orElse(JSON);
+    }
+
+}
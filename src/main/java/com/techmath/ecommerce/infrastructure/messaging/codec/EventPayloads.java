@@ -0,0 +1,40 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Converts between wire bytes and the text form kept in database columns: JSON as is, binary as Base64.
+ */
+public final class EventPayloads {
+
+    private EventPayloads() {
+    }
+
+    public static byte[] toBytes(String contentType, String payload) {
+        return EventFormat.fromContentType(contentType) == EventFormat.BINARY
+                ? Base64.getDecoder().decode(payload)
+                : payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String toText(String contentType, byte[] data) {
+        return EventFormat.fromContentType(contentType) == EventFormat.BINARY
+                ? Base64.getEncoder().encodeToString(data)
+                : new String(data, StandardCharsets.UTF_8);
+    }
+
+    public static ProducerRecord<String, byte[]> toProducerRecord(
+            String topic, String key, String eventType, String contentType, String payload) {
+        var headers = new RecordHeaders();
+        headers.add(EventFormat.CONTENT_TYPE_HEADER, EventFormat.fromContentType(contentType).getContentType().getBytes(StandardCharsets.UTF_8));
+        if (Objects.nonNull(eventType)) {
+            headers.add(EventFormat.EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ProducerRecord<>(topic, null, key, toBytes(contentType, payload), headers);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+/**
+ * Binary layout of one event type. Fields are tagged, so a tag must never be reused: new fields get
+ * new tags and readers skip tags they do not know, which keeps old and new producers compatible.
+ */
+public interface EventSchema<T> {
+
+    String name();
+
+    Class<T> type();
+
+    void write(T event, BinaryWriter writer);
+
+    T read(BinaryReader reader);
+
+}
@@ -0,0 +1,57 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+public class EventSerializer implements Serializer<Object> {
+
+    public static final String FORMAT_CONFIG = "techmath.event.format";
+
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+    private final BinaryEventCodec codec = BinaryEventCodec.DEFAULT;
+    private EventFormat format = EventFormat.JSON;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        var configured = configs.get(FORMAT_CONFIG);
+        if (Objects.nonNull(configured)) {
+            format = EventFormat.valueOf(configured.toString().toUpperCase());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return json.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (Objects.isNull(data)) {
+            return null;
+        }
+        if (format == EventFormat.BINARY && codec.supports(data.getClass())) {
+            setHeader(headers, EventFormat.CONTENT_TYPE_HEADER, EventFormat.BINARY.getContentType());
+            setHeader(headers, EventFormat.EVENT_TYPE_HEADER, codec.eventTypeOf(data.getClass()));
+            return codec.encode(data);
+        }
+        setHeader(headers, EventFormat.CONTENT_TYPE_HEADER, EventFormat.JSON.getContentType());
+        return json.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    private static void setHeader(Headers headers, String name, String value) {
+        headers.remove(name);
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.techmath.ecommerce.infrastructure.messaging.codec;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+
+import java.util.ArrayList;
+
+public class OrderPaidEventSchema implements EventSchema<OrderPaidEvent> {
+
+    private static final int ORDER_ID = 1;
+    private static final int TOTAL_AMOUNT = 2;
+    private static final int PAID_AT = 3;
+    private static final int STOCK_RESERVED = 4;
+    private static final int VERSION = 5;
+    private static final int ITEM = 6;
+
+    private static final int ITEM_PRODUCT_ID = 1;
+    private static final int ITEM_QUANTITY = 2;
+    private static final int ITEM_UNIT_PRICE = 3;
+
+    @Override
+    public String name() {
+        return OrderPaidEvent.class.getSimpleName();
+    }
+
+    @Override
+    public Class<OrderPaidEvent> type() {
+        return OrderPaidEvent.class;
+    }
+
+    @Override
+    public void write(OrderPaidEvent event, BinaryWriter writer) {
+        writer.writeUuid(ORDER_ID, event.getOrderId())
+                .writeDecimal(TOTAL_AMOUNT, event.getTotalAmount())
+                .writeTimestamp(PAID_AT, event.getPaidAt())
+                .writeBoolean(STOCK_RESERVED, event.isStockReserved())
+                .writeLong(VERSION, event.getVersion());
+        for (var item : event.getItems()) {
+            writer.writeNested(ITEM, nested -> nested
+                    .writeUuid(ITEM_PRODUCT_ID, item.getProductId())
+                    .writeLong(ITEM_QUANTITY, item.getQuantity())
+                    .writeDecimal(ITEM_UNIT_PRICE, item.getUnitPrice()));
+        }
+    }
+
+    @Override
+    public OrderPaidEvent read(BinaryReader reader) {
+        var event = new OrderPaidEvent();
+        var items = new ArrayList<OrderPaidEvent.Item>();
+        while (reader.hasMore()) {
+            switch (reader.nextTag()) {
+                case ORDER_ID -> event.setOrderId(reader.readUuid());
+                case TOTAL_AMOUNT -> event.setTotalAmount(reader.readDecimal());
+                case PAID_AT -> event.setPaidAt(reader.readTimestamp());
+                case STOCK_RESERVED -> event.setStockReserved(reader.readBoolean());
+                case VERSION -> event.setVersion(reader.readInt());
+                case ITEM -> items.add(readItem(reader.readNested()));
+                default -> reader.skip();
+            }
+        }
+        if (!items.isEmpty()) {
+            event.setItems(items);
+        }
+        return event;
+    }
+
+    private OrderPaidEvent.Item readItem(BinaryReader reader) {
+        var item = new OrderPaidEvent.Item();
+        while (reader.hasMore()) {
+            switch (reader.nextTag()) {
+                case ITEM_PRODUCT_ID -> item.setProductId(reader.readUuid());
+                case ITEM_QUANTITY -> item.setQuantity(reader.readInt());
+                case ITEM_UNIT_PRICE -> item.setUnitPrice(reader.readDecimal());
+                default -> reader.skip();
+            }
+        }
+        return item;
+    }
+
+}
@@ -1,9 +1,16 @@
 package com.techmath.ecommerce.infrastructure.messaging.config;
 
 import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventDeserializer;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderRequestRejectionRecoverer;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerAutoscalingProperties;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -11,29 +18,59 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @EnableKafka
 @Configuration
+@EnableConfigurationProperties(ConsumerAutoscalingProperties.class)
 public class KafkaConsumerConfig {
 
+    private static final String EVENTS_PACKAGE = OrderPaidEvent.class.getPackageName();
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.consumer.order-paid.concurrency:1}")
+    private int orderPaidConcurrency;
+
+    @Value("${kafka.consumer.order-paid.max-poll-records:500}")
+    private int orderPaidMaxPollRecords;
+
+    @Value("${kafka.consumer.order-paid.retry-interval:PT1S}")
+    private Duration orderPaidRetryInterval;
+
+    @Value("${kafka.consumer.order-paid.retry-attempts:3}")
+    private long orderPaidRetryAttempts;
+
+    @Value("${orders.intake.max-poll-records:500}")
+    private int orderRequestsMaxPollRecords;
+
+    @Value("${orders.intake.retry-interval:PT1S}")
+    private Duration orderRequestsRetryInterval;
+
+    @Value("${orders.intake.retry-attempts:3}")
+    private long orderRequestsRetryAttempts;
+
+    @Value("${messaging.transport:kafka}")
+    private String transport;
+
     @Bean
     public ConsumerFactory<String, OrderPaidEvent> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, EventDeserializer.class);
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, EVENTS_PACKAGE);
         props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderPaidEvent.class.getName());
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -46,8 +83,96 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, OrderPaidEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setAutoStartup(isKafkaTransport());
+        factory.setConcurrency(orderPaidConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderPaidEvent> orderPaidBatchListenerContainerFactory(
+            OrderPaidRetryRouter retryRouter) {
+        Map<String, Object> overrides = Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, orderPaidMaxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, OrderPaidEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                mergeProperties(consumerFactory().getConfigurationProperties(), overrides)));
+        factory.setAutoStartup(isKafkaTransport());
+        factory.setConcurrency(orderPaidConcurrency);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(retryRouter::route,
+                new FixedBackOff(orderPaidRetryInterval.toMillis(), orderPaidRetryAttempts)));
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderPaidEvent> orderPaidParallelListenerContainerFactory() {
+        Map<String, Object> overrides = Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, orderPaidMaxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, OrderPaidEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                mergeProperties(consumerFactory().getConfigurationProperties(), overrides)));
+        factory.setAutoStartup(isKafkaTransport());
+        factory.setConcurrency(orderPaidConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, OrderRequestedEvent> orderRequestConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, EventDeserializer.class);
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, EVENTS_PACKAGE);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderRequestedEvent.class.getName());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, orderRequestsMaxPollRecords);
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderRequestedEvent> orderRequestListenerContainerFactory(
+            OrderRequestRejectionRecoverer rejectionRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderRequestedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderRequestConsumerFactory());
+        factory.setAutoStartup(isKafkaTransport());
+        factory.setBatchListener(true);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(rejectionRecoverer,
+                new FixedBackOff(orderRequestsRetryInterval.toMillis(), orderRequestsRetryAttempts)));
         return factory;
     }
 
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> deadLetterListenerContainerFactory() {
+        Map<String, Object> overrides = Map.of(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                mergeProperties(consumerFactory().getConfigurationProperties(), overrides)));
+        factory.setAutoStartup(isKafkaTransport());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    private boolean isKafkaTransport() {
+        return "kafka".equals(transport);
+    }
+
+    private Map<String, Object> mergeProperties(Map<String, Object> base, Map<String, Object> overrides) {
+        Map<String, Object> props = new HashMap<>(base);
+        props.putAll(overrides);
+        return props;
+    }
+
 }
@@ -2,42 +2,42 @@ package com.techmath.ecommerce.infrastructure.messaging.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(KafkaProducerProperties.class)
 public class KafkaProducerConfig {
 
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
+    public static Map<String, Object> producerConfigs(
+            String bootstrapServers,
+            KafkaProducerProperties.Profile profile,
+            Class<?> valueSerializer
+    ) {
+        if (profile.isIdempotence() && (!"all".equals(profile.getAcks()) || profile.getMaxInFlight() > 5)) {
+            throw new IllegalStateException("Idempotent producer profiles require acks=all and at most 5 in-flight requests");
+        }
 
-    @Bean
-    public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
         configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
 
-        // Ensuring message durability and order
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        // Idempotence keeps per-partition order with up to 5 requests in flight
+        configProps.put(ProducerConfig.ACKS_CONFIG, profile.getAcks());
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, profile.isIdempotence());
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, profile.getMaxInFlight());
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) profile.getLinger().toMillis());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) profile.getBatchSize().toBytes());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompression());
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) profile.getDeliveryTimeout().toMillis());
 
-        return new DefaultKafkaProducerFactory<>(configProps);
-    }
-
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        return configProps;
     }
 
 }
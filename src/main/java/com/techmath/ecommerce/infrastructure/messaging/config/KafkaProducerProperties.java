@@ -0,0 +1,56 @@
+package com.techmath.ecommerce.infrastructure.messaging.config;
+
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventFormat;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Data
+@ConfigurationProperties(prefix = "kafka.producer")
+public class KafkaProducerProperties {
+
+    private String defaultProfile = "reliable";
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+    private Map<String, String> topics = new HashMap<>();
+    private EventFormat defaultFormat = EventFormat.JSON;
+    private Map<String, EventFormat> formats = new HashMap<>();
+
+    public String profileNameFor(String topic) {
+        return topics.getOrDefault(topic, defaultProfile);
+    }
+
+    public EventFormat formatFor(String topic) {
+        return formats.getOrDefault(topic, defaultFormat);
+    }
+
+    public Profile getProfile(String name) {
+        var profile = profiles.get(name);
+        if (Objects.nonNull(profile)) {
+            return profile;
+        }
+        if (name.equals(defaultProfile)) {
+            return new Profile();
+        }
+        throw new IllegalStateException("Unknown Kafka producer profile: " + name);
+    }
+
+    @Data
+    public static class Profile {
+
+        private String acks = "all";
+        private boolean idempotence = true;
+        private int maxInFlight = 5;
+        private Duration linger = Duration.ZERO;
+        private DataSize batchSize = DataSize.ofKilobytes(16);
+        private String compression = "none";
+        private Duration deliveryTimeout = Duration.ofMinutes(2);
+
+    }
+
+}
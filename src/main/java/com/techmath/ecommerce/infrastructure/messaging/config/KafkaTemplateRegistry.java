@@ -0,0 +1,62 @@
+package com.techmath.ecommerce.infrastructure.messaging.config;
+
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventFormat;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventSerializer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class KafkaTemplateRegistry {
+
+    private final KafkaProducerProperties properties;
+    private final String bootstrapServers;
+    private final Map<String, KafkaTemplate<String, Object>> eventTemplates = new ConcurrentHashMap<>();
+    private final Map<String, KafkaTemplate<String, byte[]>> rawTemplates = new ConcurrentHashMap<>();
+
+    public KafkaTemplateRegistry(
+            KafkaProducerProperties properties,
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers
+    ) {
+        this.properties = properties;
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    public KafkaTemplate<String, Object> forTopic(String topic) {
+        var profile = properties.profileNameFor(topic);
+        var format = properties.formatFor(topic);
+        return eventTemplates.computeIfAbsent(profile + ":" + format, key -> {
+            log.info("Creating Kafka producer with profile '{}' for {} payloads", profile, format);
+            var configs = KafkaProducerConfig.producerConfigs(bootstrapServers, properties.getProfile(profile), EventSerializer.class);
+            configs.put(EventSerializer.FORMAT_CONFIG, format.name());
+            return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configs));
+        });
+    }
+
+    public KafkaTemplate<String, byte[]> rawForTopic(String topic) {
+        return rawTemplates.computeIfAbsent(properties.profileNameFor(topic), profile -> {
+            log.info("Creating Kafka producer with profile '{}' for pre-serialized payloads", profile);
+            return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                    KafkaProducerConfig.producerConfigs(bootstrapServers, properties.getProfile(profile), ByteArraySerializer.class)));
+        });
+    }
+
+    public EventFormat formatFor(String topic) {
+        return properties.formatFor(topic);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventTemplates.values().forEach(template -> ((DefaultKafkaProducerFactory<?, ?>) template.getProducerFactory()).destroy());
+        rawTemplates.values().forEach(template -> ((DefaultKafkaProducerFactory<?, ?>) template.getProducerFactory()).destroy());
+    }
+
+}
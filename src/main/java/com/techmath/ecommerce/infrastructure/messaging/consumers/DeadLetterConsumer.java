@@ -0,0 +1,29 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.application.services.DeadLetterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterConsumer {
+
+    private final DeadLetterService deadLetterService;
+
+    @KafkaListener(
+            topics = "#{@orderPaidRetryRouter.deadLetterTopic}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "deadLetterListenerContainerFactory"
+    )
+    public void handleDeadLetter(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        log.info("Recording dead-lettered event {}-{}@{}", record.topic(), record.partition(), record.offset());
+        deadLetterService.record(record);
+        acknowledgment.acknowledge();
+    }
+
+}
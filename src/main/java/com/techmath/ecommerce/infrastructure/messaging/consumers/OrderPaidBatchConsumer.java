@@ -0,0 +1,151 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.ProductService;
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.infrastructure.concurrency.OptimisticLockRetryExecutor;
+import com.techmath.ecommerce.infrastructure.messaging.dedup.ProcessedEventRegistry;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerProcessingTimes;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.consumer.order-paid", name = "mode", havingValue = "batch")
+public class OrderPaidBatchConsumer {
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ProcessedEventRegistry processedEvents;
+    private final ConsumerProcessingTimes processingTimes;
+
+    @KafkaListener(
+            id = "order-paid",
+            topics = "${kafka.topics.order-paid}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "orderPaidBatchListenerContainerFactory"
+    )
+    public void onOrderPaidBatch(
+            List<OrderPaidEvent> events,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions
+    ) {
+        var started = System.nanoTime();
+        try {
+            handleOrderPaidBatch(events);
+        } finally {
+            // The batch is applied as a whole, so each record is charged an equal share of its time.
+            var perRecord = (System.nanoTime() - started) / Math.max(1, events.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                processingTimes.record(topics.get(i), partitions.get(i), perRecord);
+            }
+        }
+    }
+
+    public void handleOrderPaidBatch(List<OrderPaidEvent> events) {
+        log.info("Received batch of {} OrderPaidEvents", events.size());
+
+        var pending = unprocessed(events);
+        if (pending.isEmpty()) {
+            log.info("Batch of {} OrderPaidEvents was already processed, skipping", events.size());
+            return;
+        }
+
+        try {
+            retryExecutor.run("order.paid.batch", () -> applyStockChanges(pending));
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} OrderPaidEvents failed ({}), applying orders one by one", events.size(), e.getMessage());
+            applyIndividually(events);
+        }
+
+        log.info("Batch of {} OrderPaidEvents processed successfully", events.size());
+    }
+
+    private void applyIndividually(List<OrderPaidEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            var event = events.get(i);
+            if (processedEvents.isProcessed(OrderPaidHandler.CONSUMER, event.getOrderId().toString())) {
+                continue;
+            }
+            try {
+                retryExecutor.run("order.paid", () -> applyStockChanges(List.of(event)));
+            } catch (DuplicateKeyException e) {
+                log.info("OrderPaidEvent for order {} was processed concurrently, skipping", event.getOrderId());
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to process OrderPaidEvent for order " + event.getOrderId(), e, i);
+            }
+        }
+    }
+
+    private List<OrderPaidEvent> unprocessed(List<OrderPaidEvent> events) {
+        var pending = new LinkedHashMap<UUID, OrderPaidEvent>();
+        for (var event : events) {
+            if (!pending.containsKey(event.getOrderId())
+                    && !processedEvents.isProcessed(OrderPaidHandler.CONSUMER, event.getOrderId().toString())) {
+                pending.put(event.getOrderId(), event);
+            }
+        }
+        return List.copyOf(pending.values());
+    }
+
+    private void applyStockChanges(List<OrderPaidEvent> events) {
+        var orderIds = events.stream().map(OrderPaidEvent::getOrderId).collect(Collectors.toSet());
+        processedEvents.markProcessed(OrderPaidHandler.CONSUMER, orderIds.stream().map(UUID::toString).toList());
+        var orders = loadLegacyOrders(events);
+
+        var changes = new LinkedHashMap<UUID, ProductService.StockChange>();
+        for (var event : events) {
+            if (event.hasItems()) {
+                for (var item : event.getItems()) {
+                    merge(changes, event, item.getProductId(), item.getQuantity());
+                }
+                continue;
+            }
+            var order = orders.get(event.getOrderId());
+            if (order == null) {
+                throw new EntityNotFoundException("Order not found with id: " + event.getOrderId());
+            }
+            for (var item : order.getItems()) {
+                merge(changes, event, item.getProduct().getId(), item.getQuantity());
+            }
+        }
+
+        productService.applyStockChanges(changes);
+    }
+
+    private Map<UUID, Order> loadLegacyOrders(List<OrderPaidEvent> events) {
+        var legacyOrderIds = events.stream()
+                .filter(event -> !event.hasItems())
+                .map(OrderPaidEvent::getOrderId)
+                .collect(Collectors.toSet());
+        if (legacyOrderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderService.getOrdersByIdsWithItems(legacyOrderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+    }
+
+    private void merge(Map<UUID, ProductService.StockChange> changes, OrderPaidEvent event, UUID productId, int quantity) {
+        var reserved = event.isStockReserved() ? quantity : 0;
+        changes.merge(productId, new ProductService.StockChange(quantity, reserved), ProductService.StockChange::add);
+    }
+
+}
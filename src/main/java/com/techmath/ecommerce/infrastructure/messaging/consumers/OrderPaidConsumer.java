@@ -1,46 +1,44 @@
 package com.techmath.ecommerce.infrastructure.messaging.consumers;
 
-import com.techmath.ecommerce.application.services.OrderService;
-import com.techmath.ecommerce.application.services.ProductService;
 import com.techmath.ecommerce.domain.events.OrderPaidEvent;
-import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
-import jakarta.persistence.EntityNotFoundException;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerProcessingTimes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.consumer.order-paid", name = "mode", havingValue = "single", matchIfMissing = true)
 public class OrderPaidConsumer {
 
-    private final OrderService orderService;
-    private final ProductService productService;
+    private final OrderPaidHandler orderPaidHandler;
+    private final OrderPaidRetryRouter retryRouter;
+    private final ConsumerProcessingTimes processingTimes;
 
     @KafkaListener(
+            id = "order-paid",
             topics = "${kafka.topics.order-paid}",
             groupId = "${spring.kafka.consumer.group-id}",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    @Transactional
-    public void handleOrderPaid(OrderPaidEvent event, Acknowledgment acknowledgment) {
+    public void handleOrderPaid(ConsumerRecord<String, OrderPaidEvent> record, Acknowledgment acknowledgment) {
+        var event = record.value();
+        var started = System.nanoTime();
         log.info("Received OrderPaidEvent for order: {}", event.getOrderId());
-        var order = orderService.getOrderByIdWithItems(event.getOrderId()).orElseThrow(EntityNotFoundException::new);
-
         try {
-            for (var item : order.getItems()) {
-                productService.updateProductStock(item.getProduct(), item.getQuantity());
-            }
-
-            acknowledgment.acknowledge();
-        } catch (InsufficientStockException e) {
-            productService.handleInsufficientStock(order);
+            orderPaidHandler.handle(event);
+            log.info("OrderPaidEvent processed successfully for order: {}", event.getOrderId());
+        } catch (RuntimeException e) {
+            retryRouter.route(record, e);
         }
-
-        log.info("OrderPaidEvent processed successfully for order: {}", event.getOrderId());
+        processingTimes.record(record.topic(), record.partition(), System.nanoTime() - started);
+        acknowledgment.acknowledge();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.ProductService;
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.infrastructure.concurrency.OptimisticLockRetryExecutor;
+import com.techmath.ecommerce.infrastructure.messaging.dedup.ProcessedEventRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaidHandler {
+
+    public static final String CONSUMER = "order.paid";
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ProcessedEventRegistry processedEvents;
+
+    public void handle(OrderPaidEvent event) {
+        var eventId = event.getOrderId().toString();
+        if (processedEvents.isProcessed(CONSUMER, eventId)) {
+            log.info("OrderPaidEvent for order {} was already processed, skipping", event.getOrderId());
+            return;
+        }
+
+        try {
+            retryExecutor.run("order.paid", () -> {
+                processedEvents.markProcessed(CONSUMER, List.of(eventId));
+                applyStockChanges(event);
+            });
+        } catch (DuplicateKeyException e) {
+            log.info("OrderPaidEvent for order {} was processed concurrently, skipping", event.getOrderId());
+        }
+    }
+
+    private void applyStockChanges(OrderPaidEvent event) {
+        if (!event.hasItems()) {
+            applyStockChanges(event, orderService.getOrderByIdWithItems(event.getOrderId()).orElseThrow(EntityNotFoundException::new));
+            return;
+        }
+
+        try {
+            for (var item : event.getItems()) {
+                changeStock(event, item.getProductId(), item.getQuantity());
+            }
+        } catch (InsufficientStockException e) {
+            productService.handleInsufficientStock(
+                    orderService.getOrderByIdWithItems(event.getOrderId()).orElseThrow(EntityNotFoundException::new));
+        }
+    }
+
+    private void applyStockChanges(OrderPaidEvent event, Order order) {
+        try {
+            for (var item : order.getItems()) {
+                changeStock(event, item.getProduct().getId(), item.getQuantity());
+            }
+        } catch (InsufficientStockException e) {
+            productService.handleInsufficientStock(order);
+        }
+    }
+
+    private void changeStock(OrderPaidEvent event, UUID productId, int quantity) {
+        if (event.isStockReserved()) {
+            productService.commitReservedStock(productId, quantity);
+        } else {
+            productService.decreaseStock(productId, quantity);
+        }
+    }
+
+}
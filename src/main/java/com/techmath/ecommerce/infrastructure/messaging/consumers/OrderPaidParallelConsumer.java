@@ -0,0 +1,110 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.infrastructure.concurrency.KeyOrderedExecutor;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerProcessingTimes;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka.consumer.order-paid", name = "mode", havingValue = "parallel")
+public class OrderPaidParallelConsumer {
+
+    private static final String LISTENER_ID = "order-paid";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OrderPaidHandler orderPaidHandler;
+    private final OrderPaidRetryRouter retryRouter;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ConsumerProcessingTimes processingTimes;
+    private final MeterRegistry meterRegistry;
+    private final KeyOrderedExecutor executor;
+    private final int resumeDepth;
+
+    public OrderPaidParallelConsumer(
+            OrderPaidHandler orderPaidHandler,
+            OrderPaidRetryRouter retryRouter,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            ConsumerProcessingTimes processingTimes,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.consumer.order-paid.parallelism:16}") int parallelism,
+            @Value("${kafka.consumer.order-paid.lane-capacity:250}") int laneCapacity
+    ) {
+        this.orderPaidHandler = orderPaidHandler;
+        this.retryRouter = retryRouter;
+        this.listenerRegistry = listenerRegistry;
+        this.processingTimes = processingTimes;
+        this.meterRegistry = meterRegistry;
+        this.executor = new KeyOrderedExecutor("order-paid-lane", parallelism, laneCapacity);
+        this.resumeDepth = executor.getLaneCapacity() / 2;
+        meterRegistry.gauge("kafka.consumer.order-paid.queued", executor, KeyOrderedExecutor::getQueuedTasks);
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${kafka.topics.order-paid}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "orderPaidParallelListenerContainerFactory"
+    )
+    public void handleOrderPaid(ConsumerRecord<String, OrderPaidEvent> record, Acknowledgment acknowledgment) {
+        var key = Objects.requireNonNullElseGet(record.key(), () -> String.valueOf(record.value().getOrderId()));
+        executor.submit(key, () -> process(record, acknowledgment));
+        if (executor.getMaxLaneDepth() >= executor.getLaneCapacity()) {
+            pause();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.close();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT)) {
+            log.warn("{} OrderPaidEvents still queued at shutdown, they will be redelivered", executor.getQueuedTasks());
+        }
+    }
+
+    private void process(ConsumerRecord<String, OrderPaidEvent> record, Acknowledgment acknowledgment) {
+        var event = record.value();
+        var started = System.nanoTime();
+        try {
+            orderPaidHandler.handle(event);
+            log.info("OrderPaidEvent processed successfully for order: {}", event.getOrderId());
+        } catch (RuntimeException e) {
+            retryRouter.route(record, e);
+        }
+        processingTimes.record(record.topic(), record.partition(), System.nanoTime() - started);
+        acknowledgment.acknowledge();
+        resumeIfDrained();
+    }
+
+    // Records already polled keep arriving after pause(), so a full lane also blocks submit() until it has room.
+    private void pause() {
+        var container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (Objects.nonNull(container) && !container.isPauseRequested()) {
+            container.pause();
+            meterRegistry.counter("kafka.consumer.order-paid.paused").increment();
+            log.warn("Pausing the OrderPaidEvent consumer, a processing lane holds {} queued events", executor.getMaxLaneDepth());
+        }
+    }
+
+    private void resumeIfDrained() {
+        var container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (Objects.nonNull(container) && container.isPauseRequested() && executor.getMaxLaneDepth() <= resumeDepth) {
+            container.resume();
+            log.info("Resuming the OrderPaidEvent consumer, processing lanes drained to {} queued events", executor.getMaxLaneDepth());
+        }
+    }
+
+}
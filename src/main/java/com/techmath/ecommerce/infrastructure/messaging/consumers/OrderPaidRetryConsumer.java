@@ -0,0 +1,58 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListenerConfigurer;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
+import org.springframework.kafka.config.MethodKafkaListenerEndpoint;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaidRetryConsumer implements KafkaListenerConfigurer {
+
+    private final OrderPaidHandler orderPaidHandler;
+    private final OrderPaidRetryRouter retryRouter;
+
+    // One container per tier: nack() pauses the whole consumer, so a long tier must not hold back a short one.
+    @Override
+    public void configureKafkaListeners(KafkaListenerEndpointRegistrar registrar) {
+        var handlerMethodFactory = new DefaultMessageHandlerMethodFactory();
+        handlerMethodFactory.afterPropertiesSet();
+        var method = ClassUtils.getMethod(OrderPaidRetryConsumer.class, "handleRetry", ConsumerRecord.class, Acknowledgment.class);
+
+        for (var topic : retryRouter.getRetryTopics()) {
+            var endpoint = new MethodKafkaListenerEndpoint<String, OrderPaidEvent>();
+            endpoint.setId(topic.replace('.', '-'));
+            endpoint.setTopics(topic);
+            endpoint.setBean(this);
+            endpoint.setMethod(method);
+            endpoint.setMessageHandlerMethodFactory(handlerMethodFactory);
+            registrar.registerEndpoint(endpoint);
+        }
+    }
+
+    public void handleRetry(ConsumerRecord<String, OrderPaidEvent> record, Acknowledgment acknowledgment) {
+        var remaining = retryRouter.remainingDelay(record);
+        if (remaining.isPositive()) {
+            acknowledgment.nack(remaining);
+            return;
+        }
+
+        log.info("Retrying OrderPaidEvent for order {} from {}", record.value().getOrderId(), record.topic());
+        try {
+            orderPaidHandler.handle(record.value());
+        } catch (RuntimeException e) {
+            retryRouter.route(record, e);
+        }
+        acknowledgment.acknowledge();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.infrastructure.messaging.bus.RingBufferEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-process order.paid subscriber. Delivery is at-most-once: there are no retry or dead-letter topics in this
+ * transport, so an event whose handler fails is counted in {@code messaging.ring-buffer.dropped} and discarded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "messaging", name = "transport", havingValue = "ring-buffer")
+public class OrderPaidRingBufferConsumer {
+
+    private final RingBufferEventBus eventBus;
+    private final OrderPaidHandler orderPaidHandler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.topics.order-paid}")
+    private String orderPaidTopic;
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(orderPaidTopic, this::handleOrderPaid);
+    }
+
+    public void handleOrderPaid(List<Object> events) {
+        log.debug("Received {} OrderPaidEvents from the event bus", events.size());
+        for (var event : events) {
+            var orderPaid = (OrderPaidEvent) event;
+            try {
+                orderPaidHandler.handle(orderPaid);
+            } catch (RuntimeException e) {
+                log.error("Dropping OrderPaidEvent for order {} after a failure: {}", orderPaid.getOrderId(), e.getMessage(), e);
+                meterRegistry.counter("messaging.ring-buffer.dropped", "topic", orderPaidTopic).increment();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.application.usecases.ProcessOrderRequestsUseCase;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "orders.intake", name = "mode", havingValue = "async")
+public class OrderRequestConsumer {
+
+    private final ProcessOrderRequestsUseCase processOrderRequestsUseCase;
+
+    @KafkaListener(
+            topics = "${kafka.topics.order-requests}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "orderRequestListenerContainerFactory"
+    )
+    public void handleOrderRequests(List<OrderRequestedEvent> events, Acknowledgment acknowledgment) {
+        log.info("Received {} order requests", events.size());
+        try {
+            processOrderRequestsUseCase.execute(events);
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} order requests failed ({}), processing them one by one", events.size(), e.getMessage());
+            processIndividually(events);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private void processIndividually(List<OrderRequestedEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            var event = events.get(i);
+            try {
+                processOrderRequestsUseCase.execute(List.of(event));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to process order request " + event.getRequestId(), e, i);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.techmath.ecommerce.infrastructure.messaging.consumers;
+
+import com.techmath.ecommerce.application.usecases.ProcessOrderRequestsUseCase;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.infrastructure.messaging.bus.RingBufferEventBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "messaging", name = "transport", havingValue = "ring-buffer")
+public class OrderRequestRingBufferConsumer {
+
+    private final RingBufferEventBus eventBus;
+    private final ProcessOrderRequestsUseCase processOrderRequestsUseCase;
+
+    @Value("${kafka.topics.order-requests}")
+    private String orderRequestsTopic;
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(orderRequestsTopic, this::handleOrderRequests);
+    }
+
+    public void handleOrderRequests(List<Object> events) {
+        log.debug("Received {} order requests from the event bus", events.size());
+        var requests = events.stream().map(OrderRequestedEvent.class::cast).toList();
+        try {
+            processOrderRequestsUseCase.execute(requests);
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} order requests failed ({}), processing them one by one", requests.size(), e.getMessage());
+            requests.forEach(this::processIndividually);
+        }
+    }
+
+    private void processIndividually(OrderRequestedEvent request) {
+        try {
+            processOrderRequestsUseCase.execute(List.of(request));
+        } catch (RuntimeException e) {
+            log.error("Failed to process order request {}, recording it as rejected: {}", request.getRequestId(), e.getMessage(), e);
+            try {
+                processOrderRequestsUseCase.reject(request, "Processing failed: " + e.getMessage());
+            } catch (RuntimeException rejectionFailure) {
+                log.error("Failed to record rejection of order request {}: {}", request.getRequestId(), rejectionFailure.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.techmath.ecommerce.infrastructure.messaging.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        var insertions = Math.max(1, expectedInsertions);
+        var bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) / 64)));
+        this.bitCount = (long) words.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        var hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            var bit = index(hash, i);
+            var word = (int) (bit >>> 6);
+            var mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        var hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            var bit = index(hash, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long[] hash, int i) {
+        return Math.floorMod(hash[0] + i * hash[1], bitCount);
+    }
+
+    private static long[] hash(String value) {
+        var h1 = FNV_OFFSET;
+        for (var b : value.getBytes(StandardCharsets.UTF_8)) {
+            h1 = (h1 ^ (b & 0xff)) * FNV_PRIME;
+        }
+        var h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        return new long[]{mix(h1), h2};
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.techmath.ecommerce.infrastructure.messaging.dedup;
+
+import com.techmath.ecommerce.domain.repositories.ProcessedEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Component
+public class ProcessedEventRegistry {
+
+    private static final String INSERT_SQL = "INSERT INTO processed_event_tb (event_key, consumer, processed_at) VALUES (?, ?, ?)";
+    private static final String SELECT_KEYS_SQL = "SELECT event_key FROM processed_event_tb";
+
+    private final ProcessedEventRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Map<String, Boolean> recent;
+    private volatile BloomFilter bloomFilter;
+
+    public ProcessedEventRegistry(
+            ProcessedEventRepository repository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.consumer.dedup.retention:P7D}") Duration retention,
+            @Value("${kafka.consumer.dedup.cache-size:100000}") int cacheSize,
+            @Value("${kafka.consumer.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${kafka.consumer.dedup.bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @PostConstruct
+    public void initialize() {
+        rebuildBloomFilter();
+    }
+
+    public boolean isProcessed(String consumer, String eventId) {
+        var key = keyOf(consumer, eventId);
+        if (Objects.nonNull(recent.get(key))) {
+            record(consumer, "processed.events.hits", "cache");
+            return true;
+        }
+        if (!bloomFilter.mightContain(key)) {
+            record(consumer, "processed.events.misses", "bloom");
+            return false;
+        }
+        if (repository.existsById(key)) {
+            recent.put(key, Boolean.TRUE);
+            record(consumer, "processed.events.hits", "database");
+            return true;
+        }
+        record(consumer, "processed.events.misses", "database");
+        return false;
+    }
+
+    public void markProcessed(String consumer, Collection<String> eventIds) {
+        var keys = eventIds.stream().map(eventId -> keyOf(consumer, eventId)).toList();
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, keys, keys.size(), (ps, key) -> {
+            ps.setString(1, key);
+            ps.setString(2, consumer);
+            ps.setTimestamp(3, now);
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    keys.forEach(ProcessedEventRegistry.this::remember);
+                }
+            });
+        } else {
+            keys.forEach(this::remember);
+        }
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        var purged = repository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            rebuildBloomFilter();
+        }
+        return purged;
+    }
+
+    private void rebuildBloomFilter() {
+        var rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        jdbcTemplate.query(SELECT_KEYS_SQL, resultSet -> {
+            rebuilt.put(resultSet.getString(1));
+        });
+        bloomFilter = rebuilt;
+        log.info("Processed event bloom filter rebuilt");
+    }
+
+    private void remember(String key) {
+        bloomFilter.put(key);
+        recent.put(key, Boolean.TRUE);
+    }
+
+    private void record(String consumer, String counter, String source) {
+        meterRegistry.counter(counter, "consumer", consumer, "source", source).increment();
+    }
+
+    private static String keyOf(String consumer, String eventId) {
+        return consumer + ":" + eventId;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.techmath.ecommerce.infrastructure.messaging.outbox;
+
+import com.techmath.ecommerce.domain.entities.OutboxEvent;
+import com.techmath.ecommerce.domain.repositories.OutboxEventRepository;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventPayloads;
+import com.techmath.ecommerce.infrastructure.messaging.config.KafkaTemplateRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository repository;
+    private final KafkaTemplateRegistry kafkaTemplates;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    public OutboxRelay(
+            OutboxEventRepository repository,
+            KafkaTemplateRegistry kafkaTemplates,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:500}") int batchSize,
+            @Value("${outbox.relay.send-timeout:PT10S}") Duration sendTimeout
+    ) {
+        this.repository = repository;
+        this.kafkaTemplates = kafkaTemplates;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT0.2S}")
+    public void relayPendingEvents() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to relay outbox events: {}", e.getMessage(), e);
+        }
+    }
+
+    public int relayBatch() {
+        var relayed = transactionTemplate.execute(status -> {
+            var events = repository.lockNextBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            var acknowledged = send(events);
+            if (!acknowledged.isEmpty()) {
+                repository.deleteAllByIdInBatch(acknowledged);
+            }
+            log.debug("Relayed {} of {} outbox events", acknowledged.size(), events.size());
+            return acknowledged.size() == events.size() ? events.size() : 0;
+        });
+        return Objects.requireNonNullElse(relayed, 0);
+    }
+
+    private List<UUID> send(List<OutboxEvent> events) {
+        var futures = new ArrayList<CompletableFuture<SendResult<String, byte[]>>>(events.size());
+        var templates = new LinkedHashSet<KafkaTemplate<String, byte[]>>();
+        for (var event : events) {
+            var template = kafkaTemplates.rawForTopic(event.getTopic());
+            futures.add(template.send(EventPayloads.toProducerRecord(
+                    event.getTopic(), event.getMessageKey(), event.getEventType(), event.getContentType(), event.getPayload())));
+            templates.add(template);
+        }
+        templates.forEach(KafkaTemplate::flush);
+
+        var deadline = System.nanoTime() + sendTimeout.toNanos();
+        var acknowledged = new ArrayList<UUID>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged.add(events.get(i).getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Outbox event {} for {} was not acknowledged, it will be retried",
+                        events.get(i).getId(), events.get(i).getTopic(), e);
+            }
+        }
+        return acknowledged;
+    }
+
+}
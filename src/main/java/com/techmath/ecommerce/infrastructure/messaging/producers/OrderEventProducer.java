@@ -1,12 +1,14 @@
 package com.techmath.ecommerce.infrastructure.messaging.producers;
 
 import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.infrastructure.messaging.bus.EventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -15,25 +17,23 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class OrderEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventBus eventBus;
 
     @Value("${kafka.topics.order-paid}")
     private String orderPaidTopic;
 
+    @Value("${kafka.topics.order-requests}")
+    private String orderRequestsTopic;
+
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderPaidEvent(OrderPaidEvent event) {
-        log.info("Publishing OrderPaidEvent for order: {}", event.getOrderId());
-
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(orderPaidTopic, event.getOrderId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("OrderPaidEvent published successfully for order: {} [offset: {}]",
-                        event.getOrderId(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("Failed to publish OrderPaidEvent for order: {}",
-                        event.getOrderId(), ex);
-            }
-        });
+        log.info("Publishing OrderPaidEvent for order {} after commit", event.getOrderId());
+        eventBus.publishAfterCommit(orderPaidTopic, event.getOrderId(), event);
+    }
+
+    public CompletableFuture<Void> publishOrderRequestedEvent(OrderRequestedEvent event) {
+        log.debug("Publishing OrderRequestedEvent for request: {}", event.getRequestId());
+        return eventBus.publish(orderRequestsTopic, event.getRequestId().toString(), event);
     }
+
 }
@@ -0,0 +1,135 @@
+package com.techmath.ecommerce.infrastructure.messaging.retry;
+
+import com.techmath.ecommerce.infrastructure.messaging.config.KafkaTemplateRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.kafka.KafkaException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class OrderPaidRetryRouter {
+
+    public static final String ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String NOT_BEFORE_HEADER = "x-retry-not-before";
+    public static final String ORIGINAL_TOPIC_HEADER = "x-original-topic";
+    public static final String ORIGINAL_PARTITION_HEADER = "x-original-partition";
+    public static final String ORIGINAL_OFFSET_HEADER = "x-original-offset";
+    public static final String EXCEPTION_CLASS_HEADER = "x-exception-class";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+    public static final String FAILED_AT_HEADER = "x-failed-at";
+
+    private static final int MAX_MESSAGE_LENGTH = 4000;
+
+    private final KafkaTemplateRegistry kafkaTemplates;
+    private final MeterRegistry meterRegistry;
+    private final String topic;
+    private final String deadLetterTopic;
+    private final List<Duration> delays;
+    private final Duration sendTimeout;
+
+    public OrderPaidRetryRouter(
+            KafkaTemplateRegistry kafkaTemplates,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.topics.order-paid}") String topic,
+            @Value("${kafka.topics.order-paid-dlt:${kafka.topics.order-paid}.dlt}") String deadLetterTopic,
+            @Value("${kafka.consumer.order-paid.retry-topics.delays:PT10S,PT1M,PT10M}") List<Duration> delays,
+            @Value("${kafka.consumer.order-paid.retry-topics.send-timeout:PT10S}") Duration sendTimeout
+    ) {
+        this.kafkaTemplates = kafkaTemplates;
+        this.meterRegistry = meterRegistry;
+        this.topic = topic;
+        this.deadLetterTopic = deadLetterTopic;
+        this.delays = List.copyOf(delays);
+        this.sendTimeout = sendTimeout;
+    }
+
+    public String[] getRetryTopics() {
+        return IntStream.rangeClosed(1, delays.size()).mapToObj(this::retryTopic).toArray(String[]::new);
+    }
+
+    public String getDeadLetterTopic() {
+        return deadLetterTopic;
+    }
+
+    public void route(ConsumerRecord<?, ?> record, Exception exception) {
+        var attempt = header(record, ATTEMPT_HEADER).map(Integer::parseInt).orElse(0) + 1;
+        var exhausted = attempt > delays.size();
+        var target = exhausted ? deadLetterTopic : retryTopic(attempt);
+        var cause = NestedExceptionUtils.getMostSpecificCause(exception);
+
+        var headers = new RecordHeaders();
+        put(headers, ORIGINAL_TOPIC_HEADER, header(record, ORIGINAL_TOPIC_HEADER).orElse(record.topic()));
+        put(headers, ORIGINAL_PARTITION_HEADER, header(record, ORIGINAL_PARTITION_HEADER).orElse(String.valueOf(record.partition())));
+        put(headers, ORIGINAL_OFFSET_HEADER, header(record, ORIGINAL_OFFSET_HEADER).orElse(String.valueOf(record.offset())));
+        put(headers, EXCEPTION_CLASS_HEADER, cause.getClass().getName());
+        put(headers, EXCEPTION_MESSAGE_HEADER, StringUtils.abbreviate(Objects.toString(cause.getMessage(), ""), MAX_MESSAGE_LENGTH));
+        put(headers, FAILED_AT_HEADER, Instant.now().toString());
+        put(headers, ATTEMPT_HEADER, String.valueOf(exhausted ? delays.size() : attempt));
+        if (!exhausted) {
+            put(headers, NOT_BEFORE_HEADER, String.valueOf(Instant.now().plus(delays.get(attempt - 1)).toEpochMilli()));
+        }
+
+        send(new ProducerRecord<>(target, null, Objects.toString(record.key(), null), record.value(), headers));
+        meterRegistry.counter("kafka.consumer.order-paid.routed", "topic", target).increment();
+
+        if (exhausted) {
+            log.error("Dead-lettering record {}-{}@{} to {} after {} retries: {}",
+                    record.topic(), record.partition(), record.offset(), target, delays.size(), cause.getMessage());
+        } else {
+            log.warn("Routing record {}-{}@{} to {} (attempt {}): {}",
+                    record.topic(), record.partition(), record.offset(), target, attempt, cause.getMessage());
+        }
+    }
+
+    public Duration remainingDelay(ConsumerRecord<?, ?> record) {
+        return header(record, NOT_BEFORE_HEADER)
+                .map(notBefore -> Duration.ofMillis(Long.parseLong(notBefore) - System.currentTimeMillis()))
+                .filter(Duration::isPositive)
+                .orElse(Duration.ZERO);
+    }
+
+    public static Optional<String> header(ConsumerRecord<?, ?> record, String name) {
+        return Optional.ofNullable(record.headers().lastHeader(name))
+                .map(header -> new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    private String retryTopic(int attempt) {
+        return topic + ".retry." + attempt;
+    }
+
+    private void send(ProducerRecord<String, Object> producerRecord) {
+        try {
+            kafkaTemplates.forTopic(producerRecord.topic()).send(producerRecord)
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while routing record to " + producerRecord.topic(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Failed to route record to " + producerRecord.topic(), e);
+        }
+    }
+
+    private static void put(Headers headers, String name, String value) {
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
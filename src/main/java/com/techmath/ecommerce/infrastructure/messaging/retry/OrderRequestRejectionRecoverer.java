@@ -0,0 +1,31 @@
+package com.techmath.ecommerce.infrastructure.messaging.retry;
+
+import com.techmath.ecommerce.application.usecases.ProcessOrderRequestsUseCase;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRequestRejectionRecoverer implements ConsumerRecordRecoverer {
+
+    private final ProcessOrderRequestsUseCase processOrderRequestsUseCase;
+
+    @Override
+    public void accept(ConsumerRecord<?, ?> record, Exception exception) {
+        if (!(record.value() instanceof OrderRequestedEvent event)) {
+            log.error("Skipping unreadable order request at {}-{}@{}", record.topic(), record.partition(), record.offset());
+            return;
+        }
+
+        var cause = NestedExceptionUtils.getMostSpecificCause(exception);
+        log.error("Order request {} failed after retries, recording it as rejected: {}", event.getRequestId(), cause.getMessage());
+        processOrderRequestsUseCase.reject(event, "Processing failed: " + cause.getMessage());
+    }
+
+}
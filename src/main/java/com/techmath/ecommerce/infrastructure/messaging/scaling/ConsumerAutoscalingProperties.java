@@ -0,0 +1,25 @@
+package com.techmath.ecommerce.infrastructure.messaging.scaling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "kafka.consumer.autoscaling")
+public class ConsumerAutoscalingProperties {
+
+    private boolean enabled = false;
+    private String listenerId = "order-paid";
+    private int minConcurrency = 1;
+    private int maxConcurrency = 8;
+    private Duration sampleInterval = Duration.ofSeconds(15);
+    private Duration targetDrainTime = Duration.ofSeconds(30);
+    private long scaleUpLag = 1_000;
+    private long scaleDownLag = 100;
+    private int scaleDownSamples = 4;
+    private Duration cooldown = Duration.ofMinutes(1);
+    private Duration adminTimeout = Duration.ofSeconds(5);
+    private int historySize = 240;
+
+}
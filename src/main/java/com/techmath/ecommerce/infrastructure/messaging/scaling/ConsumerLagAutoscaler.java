@@ -0,0 +1,215 @@
+package com.techmath.ecommerce.infrastructure.messaging.scaling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka.consumer.autoscaling", name = "enabled", havingValue = "true")
+public class ConsumerLagAutoscaler {
+
+    private final ConsumerLagSampler sampler;
+    private final ConsumerProcessingTimes processingTimes;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ConsumerAutoscalingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String groupId;
+    private final String topic;
+    private final Deque<LagSample> history = new ArrayDeque<>();
+    private final Map<Integer, PartitionLag> latest = new ConcurrentHashMap<>();
+    private Map<Integer, Long> previousCommitted = Map.of();
+    private Map<Integer, ConsumerProcessingTimes.Totals> previousProcessing = Map.of();
+    private long previousSampleNanos;
+    private int quietSamples;
+    private Instant lastScaledAt = Instant.EPOCH;
+    private volatile int concurrency;
+
+    public ConsumerLagAutoscaler(
+            ConsumerLagSampler sampler,
+            ConsumerProcessingTimes processingTimes,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            ConsumerAutoscalingProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.consumer.group-id}") String groupId,
+            @Value("${kafka.topics.order-paid}") String topic
+    ) {
+        this.sampler = sampler;
+        this.processingTimes = processingTimes;
+        this.listenerRegistry = listenerRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.groupId = groupId;
+        this.topic = topic;
+        Gauge.builder("kafka.consumer.concurrency", this, autoscaler -> autoscaler.concurrency)
+                .tag("listener", properties.getListenerId())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.consumer.autoscaling.sample-interval:PT15S}")
+    public void sampleAndScale() {
+        try {
+            var container = container();
+            if (container.isEmpty() || !container.get().isRunning()) {
+                return;
+            }
+            var offsets = sampler.sample(groupId, topic, properties.getAdminTimeout());
+            var sample = record(container.get().getConcurrency(), offsets, System.nanoTime());
+            if (sample.targetConcurrency() != sample.concurrency()) {
+                rescale(container.get(), sample);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to sample consumer lag for {}: {}", topic, e.getMessage());
+        }
+    }
+
+    public List<LagSample> getHistory() {
+        synchronized (history) {
+            return List.copyOf(history);
+        }
+    }
+
+    public String getListenerId() {
+        return properties.getListenerId();
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    private synchronized LagSample record(int current, List<ConsumerLagSampler.Offsets> offsets, long sampleNanos) {
+        var elapsedSeconds = previousSampleNanos > 0 ? (sampleNanos - previousSampleNanos) / 1e9 : 0;
+        var committed = new HashMap<Integer, Long>();
+        var processing = processingTimes.totals(topic);
+        var partitions = new ArrayList<PartitionLag>(offsets.size());
+        var totalLag = 0L;
+        var totalRate = 0.0;
+        var processedRecords = 0L;
+        var processedNanos = 0L;
+
+        for (var offset : offsets) {
+            var previous = previousCommitted.get(offset.partition());
+            var rate = previous != null && elapsedSeconds > 0
+                    ? Math.max(0, offset.committedOffset() - previous) / elapsedSeconds
+                    : 0;
+            var lag = Math.max(0, offset.endOffset() - offset.committedOffset());
+
+            var totals = processing.getOrDefault(offset.partition(), new ConsumerProcessingTimes.Totals(0, 0));
+            var before = previousProcessing.getOrDefault(offset.partition(), new ConsumerProcessingTimes.Totals(0, 0));
+            var records = totals.count() - before.count();
+            var nanos = totals.nanos() - before.nanos();
+            var processingMillis = records > 0 ? nanos / 1e6 / records : 0;
+
+            var partitionLag = new PartitionLag(offset.partition(), offset.endOffset(), offset.committedOffset(), lag, rate,
+                    processingMillis);
+            partitions.add(partitionLag);
+            committed.put(offset.partition(), offset.committedOffset());
+            totalLag += lag;
+            totalRate += rate;
+            processedRecords += records;
+            processedNanos += nanos;
+            publish(partitionLag);
+        }
+        previousCommitted = committed;
+        previousProcessing = processing;
+        previousSampleNanos = sampleNanos;
+        concurrency = current;
+
+        var processingMillis = processedRecords > 0 ? processedNanos / 1e6 / processedRecords : 0;
+        var target = targetConcurrency(current, totalLag, totalRate, processingMillis, offsets.size());
+        var sample = new LagSample(Instant.now(), current, target, totalLag, totalRate, processingMillis, List.copyOf(partitions));
+        synchronized (history) {
+            history.addLast(sample);
+            while (history.size() > properties.getHistorySize()) {
+                history.removeFirst();
+            }
+        }
+        return sample;
+    }
+
+    private int targetConcurrency(int current, long totalLag, double totalRate, double processingMillis, int partitionCount) {
+        var upper = Math.max(properties.getMinConcurrency(), Math.min(properties.getMaxConcurrency(), partitionCount));
+        var target = current;
+
+        var targetSeconds = properties.getTargetDrainTime().toMillis() / 1000.0;
+        if (totalLag > properties.getScaleUpLag() && (totalRate == 0 || totalLag / totalRate > targetSeconds)) {
+            quietSamples = 0;
+            var proportional = totalRate > 0 ? (int) Math.ceil(current * (totalLag / totalRate) / targetSeconds) : current + 1;
+            // Consumers needed to work through the lag in time at the measured per-record processing time.
+            var byProcessingTime = (int) Math.ceil(totalLag * processingMillis / 1000.0 / targetSeconds);
+            target = Math.max(current + 1, Math.max(proportional, byProcessingTime));
+        } else if (totalLag <= properties.getScaleDownLag()) {
+            if (++quietSamples >= properties.getScaleDownSamples()) {
+                quietSamples = 0;
+                target = current - 1;
+            }
+        } else {
+            quietSamples = 0;
+        }
+
+        target = Math.clamp(target, properties.getMinConcurrency(), upper);
+        if (target != current && Duration.between(lastScaledAt, Instant.now()).compareTo(properties.getCooldown()) < 0) {
+            return current;
+        }
+        return target;
+    }
+
+    private void rescale(ConcurrentMessageListenerContainer<?, ?> container, LagSample sample) {
+        log.info("Scaling {} from {} to {} consumers (lag {}, {} records/s, {} ms/record)", properties.getListenerId(),
+                sample.concurrency(), sample.targetConcurrency(), sample.totalLag(), String.format("%.1f", sample.recordsPerSecond()),
+                String.format("%.2f", sample.processingMillis()));
+        container.stop();
+        container.setConcurrency(sample.targetConcurrency());
+        container.start();
+        concurrency = sample.targetConcurrency();
+        synchronized (this) {
+            lastScaledAt = Instant.now();
+        }
+    }
+
+    private void publish(PartitionLag partitionLag) {
+        if (latest.put(partitionLag.partition(), partitionLag) == null) {
+            var partition = String.valueOf(partitionLag.partition());
+            Gauge.builder("kafka.consumer.lag", latest, lags -> lags.get(partitionLag.partition()).lag())
+                    .tags("topic", topic, "partition", partition)
+                    .register(meterRegistry);
+            Gauge.builder("kafka.consumer.records-per-second", latest, lags -> lags.get(partitionLag.partition()).recordsPerSecond())
+                    .tags("topic", topic, "partition", partition)
+                    .register(meterRegistry);
+            Gauge.builder("kafka.consumer.processing-millis", latest, lags -> lags.get(partitionLag.partition()).processingMillis())
+                    .tags("topic", topic, "partition", partition)
+                    .register(meterRegistry);
+        }
+    }
+
+    private Optional<ConcurrentMessageListenerContainer<?, ?>> container() {
+        if (listenerRegistry.getListenerContainer(properties.getListenerId()) instanceof ConcurrentMessageListenerContainer<?, ?> container) {
+            return Optional.of(container);
+        }
+        return Optional.empty();
+    }
+
+}
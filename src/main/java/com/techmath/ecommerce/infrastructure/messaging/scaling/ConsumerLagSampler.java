@@ -0,0 +1,84 @@
+package com.techmath.ecommerce.infrastructure.messaging.scaling;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "kafka.consumer.autoscaling", name = "enabled", havingValue = "true")
+public class ConsumerLagSampler {
+
+    private final String bootstrapServers;
+    private volatile AdminClient adminClient;
+
+    public ConsumerLagSampler(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers) {
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    public List<Offsets> sample(String groupId, String topic, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        var admin = adminClient();
+        var timeoutMillis = timeout.toMillis();
+
+        var partitions = admin.describeTopics(List.of(topic)).allTopicNames()
+                .get(timeoutMillis, TimeUnit.MILLISECONDS).get(topic).partitions().stream()
+                .map(info -> new TopicPartition(topic, info.partition()))
+                .toList();
+        var committed = admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata()
+                .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        var ends = admin.listOffsets(partitions.stream()
+                        .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest())))
+                .all().get(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        return partitions.stream()
+                .map(partition -> new Offsets(
+                        partition.partition(),
+                        ends.get(partition).offset(),
+                        committedOffset(committed, partition)))
+                .sorted(Comparator.comparingInt(Offsets::partition))
+                .toList();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (Objects.nonNull(adminClient)) {
+            adminClient.close(Duration.ofSeconds(5));
+        }
+    }
+
+    private long committedOffset(Map<TopicPartition, OffsetAndMetadata> committed, TopicPartition partition) {
+        var offset = committed.get(partition);
+        return Objects.nonNull(offset) ? offset.offset() : 0;
+    }
+
+    private AdminClient adminClient() {
+        if (adminClient == null) {
+            synchronized (this) {
+                if (adminClient == null) {
+                    adminClient = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers));
+                }
+            }
+        }
+        return adminClient;
+    }
+
+    public record Offsets(int partition, long endOffset, long committedOffset) {}
+
+}
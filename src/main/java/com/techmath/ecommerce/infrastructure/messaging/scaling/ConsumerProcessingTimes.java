@@ -0,0 +1,61 @@
+package com.techmath.ecommerce.infrastructure.messaging.scaling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class ConsumerProcessingTimes {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TopicPartition, PartitionTimer> timers = new ConcurrentHashMap<>();
+
+    public void record(String topic, int partition, long nanos) {
+        timers.computeIfAbsent(new TopicPartition(topic, partition), this::timer).record(nanos);
+    }
+
+    public Map<Integer, Totals> totals(String topic) {
+        var totals = new HashMap<Integer, Totals>();
+        timers.forEach((topicPartition, timer) -> {
+            if (topicPartition.topic().equals(topic)) {
+                totals.put(topicPartition.partition(), new Totals(timer.count.sum(), timer.nanos.sum()));
+            }
+        });
+        return totals;
+    }
+
+    private PartitionTimer timer(TopicPartition topicPartition) {
+        return new PartitionTimer(Timer.builder("kafka.consumer.processing-time")
+                .tags("topic", topicPartition.topic(), "partition", String.valueOf(topicPartition.partition()))
+                .register(meterRegistry));
+    }
+
+    public record Totals(long count, long nanos) {}
+
+    // Cumulative totals kept next to the timer, whose count may be reset per step by some registries.
+    private static final class PartitionTimer {
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private PartitionTimer(Timer timer) {
+            this.timer = timer;
+        }
+
+        private void record(long elapsedNanos) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            count.increment();
+            nanos.add(elapsedNanos);
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.techmath.ecommerce.infrastructure.messaging.scaling;
+
+import java.time.Instant;
+import java.util.List;
+
+public record LagSample(
+        Instant sampledAt,
+        int concurrency,
+        int targetConcurrency,
+        long totalLag,
+        double recordsPerSecond,
+        double processingMillis,
+        List<PartitionLag> partitions
+) {
+
+    public Double drainSeconds() {
+        return recordsPerSecond > 0 ? totalLag / recordsPerSecond : null;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.techmath.ecommerce.infrastructure.messaging.scaling;
+
+public record PartitionLag(
+        int partition,
+        long endOffset,
+        long committedOffset,
+        long lag,
+        double recordsPerSecond,
+        double processingMillis
+) {
+
+    public Double drainSeconds() {
+        return recordsPerSecond > 0 ? lag / recordsPerSecond : null;
+    }
+
+}
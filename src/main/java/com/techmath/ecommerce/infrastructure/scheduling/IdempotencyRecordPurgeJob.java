@@ -0,0 +1,28 @@
+package com.techmath.ecommerce.infrastructure.scheduling;
+
+import com.techmath.ecommerce.application.services.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyRecordPurgeJob {
+
+    private final IdempotencyService idempotencyService;
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpiredRecords() {
+        try {
+            var purged = idempotencyService.purgeExpired();
+            if (purged > 0) {
+                log.info("Purged {} expired idempotency records", purged);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired idempotency records: {}", e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.techmath.ecommerce.infrastructure.scheduling;
+
+import com.techmath.ecommerce.infrastructure.inventory.InventoryLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "inventory.ledger", name = "enabled", havingValue = "true")
+public class InventoryLedgerFlushPurgeJob {
+
+    private final InventoryLedger inventoryLedger;
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.purge-interval:PT1H}")
+    public void purgeFlushedBatches() {
+        try {
+            var purged = inventoryLedger.purgeFlushedBatches();
+            if (purged > 0) {
+                log.info("Purged {} flushed inventory ledger batches", purged);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge flushed inventory ledger batches: {}", e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.techmath.ecommerce.infrastructure.scheduling;
+
+import com.techmath.ecommerce.infrastructure.messaging.dedup.ProcessedEventRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedEventPurgeJob {
+
+    private final ProcessedEventRegistry processedEventRegistry;
+
+    @Scheduled(fixedDelayString = "${kafka.consumer.dedup.purge-interval:PT1H}")
+    public void purgeExpiredEvents() {
+        try {
+            var purged = processedEventRegistry.purgeExpired();
+            if (purged > 0) {
+                log.info("Purged {} expired processed events", purged);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired processed events: {}", e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.techmath.ecommerce.infrastructure.scheduling;
+
+import com.techmath.ecommerce.application.services.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationExpirationJob {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${inventory.reservations.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${inventory.reservations.sweep-interval:PT30S}")
+    public void releaseExpiredReservations() {
+        try {
+            int released;
+            do {
+                released = stockReservationService.releaseExpired(batchSize);
+            } while (released > 0);
+        } catch (Exception e) {
+            log.error("Failed to release expired stock reservations: {}", e.getMessage(), e);
+        }
+    }
+
+}
@@ -17,9 +17,11 @@ import java.time.LocalDateTime;
 
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
-@Document(indexName = "products")
+@Document(indexName = ProductDocument.INDEX_ALIAS, createIndex = false)
 public class ProductDocument {
 
+    public static final String INDEX_ALIAS = "products";
+
     @Id
     private String id;
 
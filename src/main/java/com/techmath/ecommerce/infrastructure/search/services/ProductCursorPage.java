@@ -0,0 +1,7 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+
+import java.util.List;
+
+public record ProductCursorPage(List<ProductDocument> content, String nextCursor) {}
@@ -0,0 +1,302 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rebuilds the product index into a new versioned index behind the {@code products} alias. The new index
+ * is bulk loaded with refresh disabled and no replicas, caught up with products changed during the load,
+ * and then atomically swapped in, so searches keep hitting the previous index until the swap.
+ */
+@Slf4j
+@Component
+public class ProductReindexJob {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ProductRepository productRepository;
+    private final MeterRegistry meterRegistry;
+    private final ProductSearchResponseCache responseCache;
+    private final String alias;
+    private final int batchSize;
+    private final int workers;
+    private final int shards;
+    private final int replicas;
+    private final String refreshInterval;
+    private final Duration retryBackoff;
+    private final boolean deletePrevious;
+    private final Set<String> deletedDuringRun = ConcurrentHashMap.newKeySet();
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private volatile ReindexProgress.State state = ReindexProgress.State.IDLE;
+    private volatile String targetIndex;
+    private volatile List<String> previousIndices = List.of();
+    private volatile long total;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public ProductReindexJob(
+            ElasticsearchOperations elasticsearchOperations,
+            ElasticsearchClient elasticsearchClient,
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            ProductSearchResponseCache responseCache,
+            @Value("${search.reindex.batch-size:1000}") int batchSize,
+            @Value("${search.reindex.workers:4}") int workers,
+            @Value("${search.reindex.shards:1}") int shards,
+            @Value("${search.reindex.replicas:0}") int replicas,
+            @Value("${search.reindex.refresh-interval:1s}") String refreshInterval,
+            @Value("${search.reindex.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${search.reindex.delete-previous:true}") boolean deletePrevious
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.productRepository = productRepository;
+        this.meterRegistry = meterRegistry;
+        this.responseCache = responseCache;
+        this.alias = ProductDocument.INDEX_ALIAS;
+        this.batchSize = Math.max(1, batchSize);
+        this.workers = Math.max(1, workers);
+        this.shards = shards;
+        this.replicas = replicas;
+        this.refreshInterval = refreshInterval;
+        this.retryBackoff = retryBackoff;
+        this.deletePrevious = deletePrevious;
+    }
+
+    public synchronized ReindexProgress start() {
+        if (state == ReindexProgress.State.RUNNING) {
+            throw new BusinessException("A product reindex is already running into " + targetIndex);
+        }
+        indexed.set(0);
+        retried.set(0);
+        deletedDuringRun.clear();
+        previousIndices = List.of();
+        finishedAt = null;
+        error = null;
+        targetIndex = versionedIndexName();
+        startedAt = Instant.now();
+        state = ReindexProgress.State.RUNNING;
+        Thread.ofVirtual().name("product-reindex").start(this::run);
+        return getProgress();
+    }
+
+    public ReindexProgress getProgress() {
+        return new ReindexProgress(state, targetIndex, previousIndices, total, indexed.get(), retried.get(),
+                startedAt, finishedAt, error);
+    }
+
+    public void recordDelete(String id) {
+        if (state == ReindexProgress.State.RUNNING) {
+            deletedDuringRun.add(id);
+        }
+    }
+
+    public void ensureIndexExists() throws IOException {
+        log.info("Checking Elasticsearch '{}' index...", alias);
+        if (elasticsearchOperations.indexOps(IndexCoordinates.of(alias)).exists()) {
+            return;
+        }
+        var index = versionedIndexName();
+        log.info("Creating '{}' index behind the '{}' alias...", index, alias);
+        createIndex(index, replicas, refreshInterval);
+        swapAlias(index);
+        log.info("Index '{}' created successfully ({} replicas)", index, replicas);
+    }
+
+    private void run() {
+        var swapped = false;
+        try {
+            total = productRepository.count();
+            log.info("Reindexing {} products into '{}'", total, targetIndex);
+            createIndex(targetIndex, 0, "-1");
+
+            var loadStartedAt = LocalDateTime.now().minus(CATCH_UP_MARGIN);
+            copyAll();
+            restoreSettings(targetIndex);
+
+            var catchUpStartedAt = LocalDateTime.now().minus(CATCH_UP_MARGIN);
+            catchUp(loadStartedAt);
+            previousIndices = swapAlias(targetIndex);
+            swapped = true;
+            responseCache.invalidateAll();
+            catchUp(catchUpStartedAt);
+            removeDeleted();
+
+            if (deletePrevious) {
+                deleteIndices(previousIndices.stream().filter(index -> !index.equals(alias)).toList());
+            }
+            state = ReindexProgress.State.COMPLETED;
+            log.info("Reindexed {} products into '{}' ({} docs/s)", indexed.get(), targetIndex,
+                    String.format("%.0f", getProgress().documentsPerSecond()));
+        } catch (Exception e) {
+            error = e.getMessage();
+            state = ReindexProgress.State.FAILED;
+            log.error("Product reindex into '{}' failed: {}", targetIndex, e.getMessage(), e);
+            if (!swapped) {
+                deleteIndices(List.of(targetIndex));
+            }
+        } finally {
+            finishedAt = Instant.now();
+            deletedDuringRun.clear();
+        }
+    }
+
+    private void copyAll() throws InterruptedException {
+        var index = IndexCoordinates.of(targetIndex);
+        var permits = new Semaphore(workers);
+        var failure = new AtomicReference<RuntimeException>();
+
+        var page = productRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        while (!page.isEmpty() && Objects.isNull(failure.get())) {
+            var queries = toQueries(page);
+            permits.acquire();
+            Thread.ofVirtual().name("product-reindex-worker").start(() -> {
+                try {
+                    write(queries, index);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.compareAndSet(null, new IllegalStateException("Reindex worker interrupted"));
+                } finally {
+                    permits.release();
+                }
+            });
+            page = page.size() < batchSize
+                    ? List.of()
+                    : productRepository.findByIdGreaterThanOrderByIdAsc(page.getLast().getId(), Limit.of(batchSize));
+        }
+
+        permits.acquire(workers);
+        permits.release(workers);
+        if (Objects.nonNull(failure.get())) {
+            throw failure.get();
+        }
+    }
+
+    private void catchUp(LocalDateTime since) throws InterruptedException {
+        var changed = productRepository.findByUpdatedAtGreaterThanEqual(since);
+        var index = IndexCoordinates.of(targetIndex);
+        for (int from = 0; from < changed.size(); from += batchSize) {
+            write(toQueries(changed.subList(from, Math.min(changed.size(), from + batchSize))), index);
+        }
+        log.debug("Caught up {} products changed since {} into '{}'", changed.size(), since, targetIndex);
+    }
+
+    private void removeDeleted() {
+        var index = IndexCoordinates.of(targetIndex);
+        deletedDuringRun.forEach(id -> elasticsearchOperations.delete(id, index));
+    }
+
+    private void write(List<IndexQuery> queries, IndexCoordinates index) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                elasticsearchOperations.bulkIndex(queries, index);
+                indexed.addAndGet(queries.size());
+                meterRegistry.counter("search.reindex.documents").increment(queries.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                retried.incrementAndGet();
+                log.warn("Bulk write of {} products into '{}' failed (attempt {}): {}", queries.size(), index.getIndexName(), attempt, e.getMessage());
+                Thread.sleep(retryBackoff.multipliedBy(attempt));
+            }
+        }
+    }
+
+    private List<IndexQuery> toQueries(List<Product> products) {
+        return products.stream()
+                .map(product -> new IndexQueryBuilder()
+                        .withId(product.getId().toString())
+                        .withObject(ProductSearchService.toDocument(product))
+                        .build())
+                .toList();
+    }
+
+    private void createIndex(String index, int replicaCount, String refresh) {
+        var indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(index));
+        var settings = Document.create();
+        settings.put("index.number_of_shards", shards);
+        settings.put("index.number_of_replicas", replicaCount);
+        settings.put("index.refresh_interval", refresh);
+        indexOps.create(settings, indexOps.createMapping(ProductDocument.class));
+    }
+
+    private void restoreSettings(String index) throws IOException {
+        elasticsearchClient.indices().putSettings(request -> request
+                .index(index)
+                .settings(settings -> settings
+                        .numberOfReplicas(String.valueOf(replicas))
+                        .refreshInterval(interval -> interval.time(refreshInterval))));
+        elasticsearchClient.indices().refresh(request -> request.index(index));
+    }
+
+    private List<String> swapAlias(String index) throws IOException {
+        var indices = elasticsearchClient.indices();
+        var actions = new ArrayList<Action>();
+        actions.add(Action.of(action -> action.add(add -> add.index(index).alias(alias))));
+
+        List<String> previous = List.of();
+        if (indices.existsAlias(request -> request.name(alias)).value()) {
+            previous = List.copyOf(indices.getAlias(request -> request.name(alias)).result().keySet());
+            previous.forEach(old -> actions.add(Action.of(action -> action.remove(remove -> remove.index(old).alias(alias)))));
+        } else if (indices.exists(request -> request.index(alias)).value()) {
+            previous = List.of(alias);
+            actions.add(Action.of(action -> action.removeIndex(remove -> remove.index(alias))));
+        }
+
+        indices.updateAliases(request -> request.actions(actions));
+        log.info("Alias '{}' now points to '{}' (previously {})", alias, index, previous);
+        return previous;
+    }
+
+    private void deleteIndices(List<String> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchClient.indices().delete(request -> request.index(indices));
+        } catch (Exception e) {
+            log.warn("Failed to delete indices {}: {}", indices, e.getMessage());
+        }
+    }
+
+    private String versionedIndexName() {
+        return alias + "_" + System.currentTimeMillis();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Continuation token for cursor listings: the point-in-time id, the sort values of the last hit and a
+ * fingerprint of the filters and sort, so a token cannot be replayed against a different query.
+ */
+record ProductSearchCursor(String pointInTimeId, List<Object> searchAfter, int fingerprint) {
+
+    String encode(ObjectMapper objectMapper) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(this));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode product search cursor", e);
+        }
+    }
+
+    static ProductSearchCursor decode(String token, int fingerprint, ObjectMapper objectMapper) {
+        ProductSearchCursor cursor;
+        try {
+            cursor = objectMapper.readValue(Base64.getUrlDecoder().decode(token), ProductSearchCursor.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BusinessException("Invalid cursor.");
+        }
+        if (cursor.fingerprint() != fingerprint) {
+            throw new BusinessException("Cursor does not match the search filters or sort.");
+        }
+        return cursor;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+@Getter
+public class ProductSearchPage extends PageImpl<ProductDocument> {
+
+    private final boolean totalExact;
+
+    public ProductSearchPage(List<ProductDocument> content, Pageable pageable, long total, boolean totalExact) {
+        super(content, pageable, total);
+        this.totalExact = totalExact;
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of serialized product search responses. Entries expire after {@code search.cache.ttl} and are
+ * invalidated without scanning: each entry remembers the global generation and the generation of its
+ * category (or of the unfiltered scope) at load time, and index writes bump those counters.
+ */
+@Component
+public class ProductSearchResponseCache {
+
+    private static final String ALL_CATEGORIES = "*";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long refreshLagNanos;
+    private final Map<Key, Entry> entries;
+    private final Generation global = new Generation();
+    private final Map<String, Generation> categories = new ConcurrentHashMap<>();
+
+    public ProductSearchResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${search.cache.enabled:true}") boolean enabled,
+            @Value("${search.cache.max-entries:1000}") int maxEntries,
+            @Value("${search.cache.ttl:PT30S}") Duration ttl,
+            @Value("${search.cache.refresh-lag:PT1S}") Duration refreshLag
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshLagNanos = refreshLag.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        meterRegistry.gauge("search.cache.size", entries, Map::size);
+    }
+
+    public Optional<CachedResponse> get(Key key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        var entry = entries.get(key);
+        if (Objects.nonNull(entry) && entry.isValid(stamp(key), System.nanoTime())) {
+            meterRegistry.counter("search.cache.hits").increment();
+            return Optional.of(entry.response());
+        }
+        if (Objects.nonNull(entry)) {
+            entries.remove(key, entry);
+        }
+        meterRegistry.counter("search.cache.misses").increment();
+        return Optional.empty();
+    }
+
+    public Stamp stamp(Key key) {
+        return new Stamp(global.value(), generation(key.category()).value());
+    }
+
+    public void put(Key key, Stamp stamp, CachedResponse response) {
+        if (!enabled) {
+            return;
+        }
+        var now = System.nanoTime();
+        var scope = generation(key.category());
+        if (!stamp.equals(stamp(key)) || global.isSettling(now, refreshLagNanos) || scope.isSettling(now, refreshLagNanos)) {
+            return;
+        }
+        entries.put(key, new Entry(response, stamp, now + ttlNanos));
+    }
+
+    public void invalidate(Collection<String> changedCategories) {
+        if (changedCategories.isEmpty()) {
+            return;
+        }
+        changedCategories.stream().filter(Objects::nonNull).distinct().forEach(category -> generation(category).bump());
+        generation(ALL_CATEGORIES).bump();
+        meterRegistry.counter("search.cache.invalidations").increment();
+    }
+
+    public void invalidateAll() {
+        global.bump();
+        meterRegistry.counter("search.cache.invalidations").increment();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Generation generation(String category) {
+        return categories.computeIfAbsent(Objects.requireNonNullElse(category, ALL_CATEGORIES), ignored -> new Generation());
+    }
+
+    public record Key(String name, String category, String minPrice, String maxPrice, int page, int size, String sort) {
+
+        public static Key of(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+            return new Key(
+                    name,
+                    category,
+                    Objects.isNull(minPrice) ? null : minPrice.stripTrailingZeros().toPlainString(),
+                    Objects.isNull(maxPrice) ? null : maxPrice.stripTrailingZeros().toPlainString(),
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    pageable.getSort().toString());
+        }
+
+    }
+
+    public record CachedResponse(byte[] body, HttpHeaders headers, HttpStatusCode status) {}
+
+    public record Stamp(long global, long scope) {}
+
+    private record Entry(CachedResponse response, Stamp stamp, long expiresAtNanos) {
+
+        boolean isValid(Stamp current, long now) {
+            return now - expiresAtNanos < 0 && stamp.equals(current);
+        }
+
+    }
+
+    private static final class Generation {
+
+        private final AtomicLong value = new AtomicLong();
+        private volatile long bumpedAtNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+        long value() {
+            return value.get();
+        }
+
+        void bump() {
+            bumpedAtNanos = System.nanoTime();
+            value.incrementAndGet();
+        }
+
+        boolean isSettling(long now, long refreshLagNanos) {
+            return now - bumpedAtNanos < refreshLagNanos;
+        }
+
+    }
+
+}
@@ -1,23 +1,35 @@
 package com.techmath.ecommerce.infrastructure.search.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
 import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
-import com.techmath.ecommerce.infrastructure.search.repositories.ProductSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 @Slf4j
@@ -25,27 +37,50 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class ProductSearchService {
 
-    private final ProductSearchRepository repository;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ProductSearchSyncQueue syncQueue;
+    private final ProductReindexJob reindexJob;
+    private final ObjectMapper objectMapper;
+
+    @Value("${search.pagination.track-total-hits-up-to:10000}")
+    private int trackTotalHitsUpTo;
+
+    @Value("${search.pagination.cursor-keep-alive:PT1M}")
+    private Duration cursorKeepAlive;
 
     public void syncProduct(Product product) {
-        try {
-            ProductDocument document = toDocument(product);
-            repository.save(document);
-            log.info("Product {} synced to Elasticsearch", product.getId());
-        } catch (Exception e) {
-            log.error("Failed to sync product with id {}: {}", product.getId(), e.getMessage());
+        syncProducts(List.of(product));
+    }
+
+    public void syncProducts(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
         }
+        var documents = products.stream().map(ProductSearchService::toDocument).toList();
+        afterCommit(() -> syncQueue.index(documents));
+        log.debug("{} products queued for Elasticsearch sync", documents.size());
     }
 
-    public void syncDeleteProduct(Product product) {
-        try {
-            ProductDocument document = toDocument(product);
-            repository.delete(document);
-            log.info("Product {} synced deleted to Elasticsearch", product.getId());
-        } catch (Exception e) {
-            log.error("Failed to sync delete product with id {}: {}", product.getId(), e.getMessage());
+    public void syncStock(Product product) {
+        syncStocks(List.of(product));
+    }
+
+    public void syncStocks(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
         }
+        var documents = products.stream().map(this::toStockDocument).toList();
+        afterCommit(() -> syncQueue.updateStock(documents));
+        log.debug("{} product stock changes queued for Elasticsearch sync", documents.size());
+    }
+
+    public void syncDeleteProduct(Product product) {
+        var id = product.getId().toString();
+        afterCommit(() -> {
+            syncQueue.delete(id);
+            reindexJob.recordDelete(id);
+        });
+        log.debug("Product {} queued for deletion from Elasticsearch", product.getId());
     }
 
     public Page<ProductDocument> searchProducts(
@@ -59,17 +94,74 @@ public class ProductSearchService {
             var criteria = buildMultiFilterCriteria(name, category, minPrice, maxPrice);
             var query = new CriteriaQuery(criteria);
             query.setPageable(pageable);
+            if (trackTotalHitsUpTo > 0) {
+                query.setTrackTotalHitsUpTo(trackTotalHitsUpTo);
+            }
 
             var searchHits = elasticsearchOperations.search(query, ProductDocument.class);
             var products = searchHits.getSearchHits().stream().map(SearchHit::getContent).toList();
+            var totalExact = searchHits.getTotalHitsRelation() != TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
 
-            return new PageImpl<>(products, pageable, searchHits.getTotalHits());
+            return new ProductSearchPage(products, pageable, searchHits.getTotalHits(), totalExact);
         } catch (Exception e) {
             log.error("Error searching products: {}", e.getMessage(), e);
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
     }
 
+    public ProductCursorPage searchProductsAfter(
+            String name,
+            String category,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Sort sort,
+            int size,
+            String cursor
+    ) {
+        var fingerprint = Objects.hash(name, category, minPrice, maxPrice, sort.toString());
+        var position = Objects.isNull(cursor) ? null : ProductSearchCursor.decode(cursor, fingerprint, objectMapper);
+        var pointInTimeId = Objects.nonNull(position)
+                ? position.pointInTimeId()
+                : elasticsearchOperations.openPointInTime(IndexCoordinates.of(ProductDocument.INDEX_ALIAS), cursorKeepAlive, false);
+
+        try {
+            var query = new CriteriaQuery(buildMultiFilterCriteria(name, category, minPrice, maxPrice));
+            query.setPageable(PageRequest.of(0, size, sort));
+            query.setPointInTime(new Query.PointInTime(pointInTimeId, cursorKeepAlive));
+            query.setTrackTotalHits(false);
+            if (Objects.nonNull(position)) {
+                query.setSearchAfter(position.searchAfter());
+            }
+
+            var searchHits = elasticsearchOperations.search(query, ProductDocument.class);
+            var hits = searchHits.getSearchHits();
+            var products = hits.stream().map(SearchHit::getContent).toList();
+            var nextPointInTimeId = Objects.requireNonNullElse(searchHits.getPointInTimeId(), pointInTimeId);
+
+            if (hits.size() < size) {
+                closePointInTime(nextPointInTimeId);
+                return new ProductCursorPage(products, null);
+            }
+            var next = new ProductSearchCursor(nextPointInTimeId, hits.getLast().getSortValues(), fingerprint);
+            return new ProductCursorPage(products, next.encode(objectMapper));
+        } catch (RuntimeException e) {
+            log.error("Error searching products after cursor: {}", e.getMessage(), e);
+            if (Objects.nonNull(position)) {
+                throw new BusinessException("Cursor is no longer valid, restart the listing without a cursor.");
+            }
+            closePointInTime(pointInTimeId);
+            throw e;
+        }
+    }
+
+    private void closePointInTime(String pointInTimeId) {
+        try {
+            elasticsearchOperations.closePointInTime(pointInTimeId);
+        } catch (Exception e) {
+            log.warn("Failed to close point in time: {}", e.getMessage());
+        }
+    }
+
     private Criteria buildMultiFilterCriteria(String name, String category, BigDecimal minPrice, BigDecimal maxPrice) {
         Criteria criteria = new Criteria();
 
@@ -94,7 +186,20 @@ public class ProductSearchService {
         return criteria;
     }
 
-    private ProductDocument toDocument(Product product) {
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static ProductDocument toDocument(Product product) {
         return new ProductDocument(
                 product.getId().toString(),
                 product.getName(),
@@ -107,21 +212,17 @@ public class ProductSearchService {
         );
     }
 
-    public void ensureElasticsearchIndexExists() {
-        log.info("Checking Elasticsearch 'products' index...");
-        var indexOps = elasticsearchOperations.indexOps(ProductDocument.class);
-
-        if (!indexOps.exists()) {
-            log.info("Creating 'products' index in Elasticsearch...");
-
-            var settings = Document.create();
-            settings.put("index.number_of_replicas", 0);
-            settings.put("index.number_of_shards", 1);
+    private ProductDocument toStockDocument(Product product) {
+        var document = new ProductDocument();
+        document.setId(product.getId().toString());
+        document.setCategory(product.getCategory());
+        document.setStockQuantity(product.getStockQuantity());
+        document.setUpdatedAt(product.getUpdatedAt());
+        return document;
+    }
 
-            indexOps.create(settings);
-            indexOps.putMapping(indexOps.createMapping());
-            log.info("Index 'products' created successfully (0 replicas for single-node)");
-        }
+    public void ensureElasticsearchIndexExists() throws IOException {
+        reindexJob.ensureIndexExists();
     }
 
 }
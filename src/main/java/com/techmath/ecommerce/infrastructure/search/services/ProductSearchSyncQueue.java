@@ -0,0 +1,332 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import com.techmath.ecommerce.infrastructure.search.repositories.ProductSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ProductSearchSyncQueue {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final String DOCUMENT_MISSING = "document_missing_exception";
+    private static final DateTimeFormatter UPDATED_AT_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+    private static final String STOCK_UPDATE_SCRIPT = """
+            def current = ctx._source.stockQuantity;
+            def next = params.stockQuantity;
+            boolean crossed = current == null || (current > 0) != (next > 0);
+            if (current == next || (params.boundaryOnly && !crossed)) {
+                ctx.op = 'noop';
+            } else {
+                ctx._source.stockQuantity = next;
+                ctx._source.updatedAt = params.updatedAt;
+            }
+            """;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ProductSearchRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final ProductSearchResponseCache responseCache;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final long retryBackoffNanos;
+    private final boolean stockBoundaryOnly;
+    private final LinkedHashMap<String, Operation> pending = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingChanged = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread flusher;
+    private long oldestPendingNanos;
+    private volatile boolean running = true;
+
+    public ProductSearchSyncQueue(
+            ElasticsearchOperations elasticsearchOperations,
+            ProductSearchRepository repository,
+            MeterRegistry meterRegistry,
+            ProductSearchResponseCache responseCache,
+            @Value("${search.sync.capacity:10000}") int capacity,
+            @Value("${search.sync.batch-size:500}") int batchSize,
+            @Value("${search.sync.flush-interval:PT0.5S}") Duration flushInterval,
+            @Value("${search.sync.offer-timeout:PT5S}") Duration offerTimeout,
+            @Value("${search.sync.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${search.sync.stock-boundary-only:false}") boolean stockBoundaryOnly
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.responseCache = responseCache;
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.stockBoundaryOnly = stockBoundaryOnly;
+        meterRegistry.gauge("search.sync.pending", this, ProductSearchSyncQueue::getPending);
+        this.flusher = Thread.ofVirtual().name("product-search-sync").start(this::run);
+    }
+
+    public void index(Collection<ProductDocument> documents) {
+        enqueue(documents.stream().map(document -> new Operation(document.getId(), Kind.INDEX, document)).toList());
+    }
+
+    public void updateStock(Collection<ProductDocument> documents) {
+        enqueue(documents.stream().map(document -> new Operation(document.getId(), Kind.STOCK, document)).toList());
+    }
+
+    public void delete(String id) {
+        enqueue(List.of(new Operation(id, Kind.DELETE, null)));
+    }
+
+    public int getPending() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        lock.lock();
+        try {
+            pendingChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (!flusher.join(SHUTDOWN_TIMEOUT)) {
+            log.warn("{} product search updates were not flushed before shutdown", getPending());
+        }
+    }
+
+    private void enqueue(List<Operation> operations) {
+        lock.lock();
+        try {
+            for (var operation : operations) {
+                if (!awaitCapacity(operation.id())) {
+                    meterRegistry.counter("search.sync.dropped").increment();
+                    log.error("Product search sync queue is full, dropping update for product {}", operation.id());
+                    continue;
+                }
+                if (pending.isEmpty()) {
+                    oldestPendingNanos = System.nanoTime();
+                }
+                var previous = pending.get(operation.id());
+                if (Objects.nonNull(previous)) {
+                    meterRegistry.counter("search.sync.coalesced").increment();
+                }
+                pending.put(operation.id(), merge(previous, operation));
+                if (pending.size() == 1 || pending.size() >= batchSize) {
+                    pendingChanged.signal();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while queueing product search updates");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Operation merge(Operation previous, Operation next) {
+        if (Objects.isNull(previous) || next.kind() != Kind.STOCK) {
+            return next;
+        }
+        return switch (previous.kind()) {
+            case DELETE -> previous;
+            case INDEX -> {
+                previous.document().setStockQuantity(next.document().getStockQuantity());
+                previous.document().setUpdatedAt(next.document().getUpdatedAt());
+                yield previous;
+            }
+            case STOCK -> next;
+        };
+    }
+
+    private boolean awaitCapacity(String id) throws InterruptedException {
+        var remaining = offerTimeoutNanos;
+        while (!pending.containsKey(id) && pending.size() >= capacity) {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining = notFull.awaitNanos(remaining);
+        }
+        return true;
+    }
+
+    private void run() {
+        while (true) {
+            List<Operation> batch;
+            lock.lock();
+            try {
+                while (pending.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    pendingChanged.await();
+                }
+                var deadline = oldestPendingNanos + flushIntervalNanos;
+                while (running && pending.size() < batchSize) {
+                    var remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    pendingChanged.awaitNanos(remaining);
+                }
+                batch = drain();
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            var failed = write(batch);
+            if (!failed.isEmpty() && running) {
+                requeue(failed);
+            }
+        }
+    }
+
+    private List<Operation> drain() {
+        var batch = new ArrayList<Operation>(Math.min(batchSize, pending.size()));
+        var iterator = pending.values().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private List<Operation> write(List<Operation> batch) {
+        var upserts = batch.stream()
+                .filter(operation -> operation.kind() == Kind.INDEX)
+                .map(operation -> new IndexQueryBuilder().withId(operation.id()).withObject(operation.document()).build())
+                .toList();
+        var stockUpdates = batch.stream()
+                .filter(operation -> operation.kind() == Kind.STOCK)
+                .toList();
+        var deletes = batch.stream()
+                .filter(operation -> operation.kind() == Kind.DELETE)
+                .map(Operation::id)
+                .toList();
+        try {
+            if (!upserts.isEmpty()) {
+                elasticsearchOperations.bulkIndex(upserts, ProductDocument.class);
+            }
+            var failedStockUpdates = stockUpdates.isEmpty() ? List.<Operation>of() : writeStockUpdates(stockUpdates);
+            if (!deletes.isEmpty()) {
+                repository.deleteAllById(deletes);
+            }
+            invalidateResponses(batch, upserts.size() + deletes.size());
+            meterRegistry.counter("search.sync.flushes").increment();
+            meterRegistry.counter("search.sync.documents").increment(batch.size());
+            log.debug("Flushed {} product index updates, {} stock updates and {} deletes to Elasticsearch",
+                    upserts.size(), stockUpdates.size(), deletes.size());
+            return failedStockUpdates;
+        } catch (Exception e) {
+            meterRegistry.counter("search.sync.failures").increment();
+            log.error("Failed to flush {} product search updates: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+    }
+
+    private void invalidateResponses(List<Operation> batch, int fullWrites) {
+        if (fullWrites > 0) {
+            responseCache.invalidateAll();
+            return;
+        }
+        responseCache.invalidate(batch.stream().map(operation -> operation.document().getCategory()).toList());
+    }
+
+    private List<Operation> writeStockUpdates(List<Operation> operations) {
+        try {
+            elasticsearchOperations.bulkUpdate(operations.stream().map(operation -> stockUpdate(operation.document())).toList(),
+                    ProductDocument.class);
+            return List.of();
+        } catch (BulkFailureException e) {
+            var missing = e.getFailedDocuments().entrySet().stream()
+                    .filter(failure -> isDocumentMissing(failure.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            var failed = operations.stream()
+                    .filter(operation -> e.getFailedDocuments().containsKey(operation.id()) && !missing.contains(operation.id()))
+                    .toList();
+            if (!missing.isEmpty()) {
+                meterRegistry.counter("search.sync.stock-update-failures").increment(missing.size());
+                log.warn("{} stock updates were rejected because the products are not indexed yet: {}", missing.size(), missing);
+            }
+            if (!failed.isEmpty()) {
+                meterRegistry.counter("search.sync.failures").increment();
+                log.error("Failed to apply {} stock updates, re-queueing them: {}", failed.size(), e.getMessage());
+            }
+            return failed;
+        }
+    }
+
+    private boolean isDocumentMissing(BulkFailureException.FailureDetails failure) {
+        return Objects.nonNull(failure.errorMessage()) && failure.errorMessage().contains(DOCUMENT_MISSING);
+    }
+
+    private UpdateQuery stockUpdate(ProductDocument document) {
+        var params = new HashMap<String, Object>();
+        params.put("stockQuantity", document.getStockQuantity());
+        params.put("updatedAt", Objects.nonNull(document.getUpdatedAt()) ? UPDATED_AT_FORMAT.format(document.getUpdatedAt()) : null);
+        params.put("boundaryOnly", stockBoundaryOnly);
+        return UpdateQuery.builder(document.getId())
+                .withScript(STOCK_UPDATE_SCRIPT)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withParams(params)
+                .withRetryOnConflict(3)
+                .build();
+    }
+
+    private void requeue(List<Operation> batch) {
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                oldestPendingNanos = System.nanoTime();
+            }
+            batch.forEach(operation -> pending.merge(operation.id(), operation, (newer, failed) -> merge(failed, newer)));
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(retryBackoffNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private enum Kind { INDEX, STOCK, DELETE }
+
+    private record Operation(String id, Kind kind, ProductDocument document) {}
+
+}
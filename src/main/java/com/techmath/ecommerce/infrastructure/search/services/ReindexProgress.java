@@ -0,0 +1,30 @@
+package com.techmath.ecommerce.infrastructure.search.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+public record ReindexProgress(
+        State state,
+        String targetIndex,
+        List<String> previousIndices,
+        long totalProducts,
+        long indexedProducts,
+        long retriedBatches,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+
+    public double documentsPerSecond() {
+        if (Objects.isNull(startedAt)) {
+            return 0;
+        }
+        var elapsed = Duration.between(startedAt, Objects.requireNonNullElseGet(finishedAt, Instant::now)).toMillis();
+        return elapsed > 0 ? indexedProducts * 1000.0 / elapsed : 0;
+    }
+
+    public enum State { IDLE, RUNNING, COMPLETED, FAILED }
+
+}
@@ -0,0 +1,35 @@
+package com.techmath.ecommerce.presentation.controllers;
+
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerAutoscalingProperties;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerLagAutoscaler;
+import com.techmath.ecommerce.presentation.dto.response.ConsumerScalingResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/consumers/scaling")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnProperty(prefix = "kafka.consumer.autoscaling", name = "enabled", havingValue = "true")
+public class ConsumerScalingAdminController {
+
+    private final ConsumerLagAutoscaler autoscaler;
+    private final ConsumerAutoscalingProperties properties;
+
+    @GetMapping
+    public ConsumerScalingResponse getScaling() {
+        return ConsumerScalingResponse.builder()
+                .listenerId(autoscaler.getListenerId())
+                .topic(autoscaler.getTopic())
+                .concurrency(autoscaler.getConcurrency())
+                .minConcurrency(properties.getMinConcurrency())
+                .maxConcurrency(properties.getMaxConcurrency())
+                .samples(autoscaler.getHistory())
+                .build();
+    }
+
+}
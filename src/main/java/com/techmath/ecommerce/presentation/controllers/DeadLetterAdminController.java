@@ -0,0 +1,57 @@
+package com.techmath.ecommerce.presentation.controllers;
+
+import com.techmath.ecommerce.application.services.DeadLetterService;
+import com.techmath.ecommerce.domain.entities.DeadLetterEvent;
+import com.techmath.ecommerce.domain.enums.DeadLetterStatus;
+import com.techmath.ecommerce.presentation.dto.response.DeadLetterEventResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/dead-letters")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class DeadLetterAdminController {
+
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping
+    public Page<DeadLetterEventResponse> getDeadLetters(
+            @RequestParam(defaultValue = "PENDING") DeadLetterStatus status,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return deadLetterService.getDeadLetters(status, pageable).map(this::toResponse);
+    }
+
+    @PostMapping("/redrive")
+    public Map<String, Integer> redrive(@RequestBody(required = false) List<UUID> ids) {
+        return Map.of("redriven", deadLetterService.redrive(ids));
+    }
+
+    private DeadLetterEventResponse toResponse(DeadLetterEvent event) {
+        return DeadLetterEventResponse.builder()
+                .id(event.getId())
+                .originalTopic(event.getOriginalTopic())
+                .originalPartition(event.getOriginalPartition())
+                .originalOffset(event.getOriginalOffset())
+                .messageKey(event.getMessageKey())
+                .payload(event.getPayload())
+                .exceptionClass(event.getExceptionClass())
+                .exceptionMessage(event.getExceptionMessage())
+                .attempts(event.getAttempts())
+                .status(event.getStatus())
+                .failedAt(event.getFailedAt())
+                .redrivenAt(event.getRedrivenAt())
+                .build();
+    }
+
+}
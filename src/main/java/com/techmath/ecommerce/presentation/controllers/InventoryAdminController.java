@@ -0,0 +1,40 @@
+package com.techmath.ecommerce.presentation.controllers;
+
+import com.techmath.ecommerce.application.services.ProductService;
+import com.techmath.ecommerce.infrastructure.inventory.HotProductStockQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/inventory")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class InventoryAdminController {
+
+    private final ProductService productService;
+    private final HotProductStockQueue hotProductStockQueue;
+
+    @GetMapping("/hot-products")
+    public Set<UUID> getHotProducts() {
+        return hotProductStockQueue.getHotProducts();
+    }
+
+    @PutMapping("/hot-products/{productId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void markHotProduct(@PathVariable UUID productId) {
+        var product = productService.getProductById(productId);
+        hotProductStockQueue.markHot(product.getId());
+    }
+
+    @DeleteMapping("/hot-products/{productId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void unmarkHotProduct(@PathVariable UUID productId) {
+        hotProductStockQueue.unmarkHot(productId);
+    }
+
+}
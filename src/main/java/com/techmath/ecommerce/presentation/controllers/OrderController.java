@@ -1,12 +1,17 @@
 package com.techmath.ecommerce.presentation.controllers;
 
 import com.techmath.ecommerce.application.converters.OrderConverter;
+import com.techmath.ecommerce.application.services.IdempotencyService;
+import com.techmath.ecommerce.application.services.OrderIntakeService;
 import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.usecases.CreateOrderBatchUseCase;
 import com.techmath.ecommerce.application.usecases.PayOrderUseCase;
 import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
+import com.techmath.ecommerce.presentation.dto.request.OrderRequest;
 import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,16 +25,49 @@ public class OrderController {
     private final OrderService service;
     private final OrderConverter converter;
     private final PayOrderUseCase payOrderUseCase;
+    private final CreateOrderBatchUseCase createOrderBatchUseCase;
+    private final IdempotencyService idempotencyService;
+    private final OrderIntakeService orderIntakeService;
 
     @PostMapping
-    public OrderResponse createOrder(@RequestBody @Valid List<OrderItemsRequest> items) {
-        var order = service.createOrder(items);
-        return converter.toDTO(order);
+    public ResponseEntity<OrderResponse> createOrder(
+            @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid List<OrderItemsRequest> items
+    ) {
+        if (orderIntakeService.isAsync()) {
+            var accepted = idempotencyService.execute(idempotencyKey, "enqueue-order", OrderResponse.class,
+                    () -> orderIntakeService.submit(items));
+            return ResponseEntity.accepted().body(accepted);
+        }
+
+        var order = idempotencyService.execute(idempotencyKey, "create-order", OrderResponse.class,
+                () -> converter.toDTO(service.createOrder(items)));
+        return ResponseEntity.ok(order);
+    }
+
+    @GetMapping("/requests/{requestId}")
+    public OrderResponse getOrderRequestStatus(@PathVariable UUID requestId) {
+        return orderIntakeService.getRequestStatus(requestId);
+    }
+
+    @PostMapping("/batch")
+    public List<OrderResponse> createOrders(@RequestBody @Valid List<@Valid OrderRequest> orders) {
+        return createOrderBatchUseCase.execute(orders);
     }
 
     @PostMapping("/pay/{orderId}")
-    public OrderResponse  payOrder(@PathVariable UUID orderId) {
-        return payOrderUseCase.execute(orderId);
+    public OrderResponse payOrder(
+            @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable UUID orderId
+    ) {
+        return idempotencyService.execute(idempotencyKey, "pay-order:" + orderId, OrderResponse.class,
+                () -> payOrderUseCase.execute(orderId));
+    }
+
+    @PostMapping("/cancel/{orderId}")
+    public OrderResponse cancelOrder(@PathVariable UUID orderId) {
+        var order = service.cancelOrder(orderId);
+        return converter.toDTO(order);
     }
 
 }
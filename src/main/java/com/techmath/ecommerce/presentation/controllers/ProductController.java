@@ -1,12 +1,17 @@
 package com.techmath.ecommerce.presentation.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.techmath.ecommerce.application.converters.ProductConverter;
 import com.techmath.ecommerce.application.services.ProductService;
 import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchPage;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchResponseCache;
 import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
 import com.techmath.ecommerce.presentation.dto.ProductDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -14,12 +19,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RestController
@@ -30,6 +37,8 @@ public class ProductController {
     private final ProductService service;
     private final ProductConverter converter;
     private final ProductSearchService searchService;
+    private final ProductSearchResponseCache responseCache;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -41,30 +50,54 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductDTO>> getAllProducts(
+    public ResponseEntity<byte[]> getAllProducts(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @PageableDefault(sort = "name") Pageable pageable
-    ) {
+    ) throws JsonProcessingException {
+        var normalizedName = StringUtils.trimToNull(name);
+        var normalizedCategory = StringUtils.trimToNull(category);
+        var key = ProductSearchResponseCache.Key.of(normalizedName, normalizedCategory, minPrice, maxPrice, pageable);
+        var cached = responseCache.get(key);
+        if (cached.isPresent()) {
+            return toResponseEntity(cached.get());
+        }
+
+        var stamp = responseCache.stamp(key);
         var modifiedPageable = createModifiedPageable(pageable);
-        var page = searchService.searchProducts(name, category, minPrice, maxPrice, modifiedPageable);
-        var content = page.map(doc -> new ProductDTO(
-                UUID.fromString(doc.getId()),
-                doc.getName(),
-                doc.getDescription(),
-                doc.getPrice(),
-                doc.getCategory(),
-                doc.getStockQuantity(),
-                doc.getCreatedAt(),
-                doc.getUpdatedAt()
-            )
-        ).getContent();
+        var page = searchService.searchProducts(normalizedName, normalizedCategory, minPrice, maxPrice, modifiedPageable);
+        var content = page.map(this::toDTO).getContent();
 
         var headers = mountPageableHttpHeaders(pageable, page);
         var status = page.getTotalElements() == 0 ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT;
-        return new ResponseEntity<>(content, headers, status);
+        var response = new ProductSearchResponseCache.CachedResponse(objectMapper.writeValueAsBytes(content), headers, status);
+        if (page.getTotalElements() > 0) {
+            responseCache.put(key, stamp, response);
+        }
+        return toResponseEntity(response);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<List<ProductDTO>> getProductsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(sort = "name") Pageable pageable
+    ) {
+        var sort = createModifiedPageable(pageable).getSort();
+        var page = searchService.searchProductsAfter(StringUtils.trimToNull(name), StringUtils.trimToNull(category), minPrice, maxPrice, sort, pageable.getPageSize(), cursor);
+        var content = page.content().stream().map(this::toDTO).toList();
+
+        var headers = new HttpHeaders();
+        headers.add("X-Current-Elements", String.valueOf(content.size()));
+        if (Objects.nonNull(page.nextCursor())) {
+            headers.add("X-Next-Cursor", page.nextCursor());
+        }
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
@@ -88,6 +121,26 @@ public class ProductController {
         service.deleteProduct(id);
     }
 
+    private ProductDTO toDTO(ProductDocument doc) {
+        return new ProductDTO(
+                UUID.fromString(doc.getId()),
+                doc.getName(),
+                doc.getDescription(),
+                doc.getPrice(),
+                doc.getCategory(),
+                doc.getStockQuantity(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt()
+        );
+    }
+
+    private ResponseEntity<byte[]> toResponseEntity(ProductSearchResponseCache.CachedResponse response) {
+        return ResponseEntity.status(response.status())
+                .headers(response.headers())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
+
     private Pageable createModifiedPageable(Pageable pageable) {
         if (pageable.getSort().isSorted()) {
             var modifiedSort = Sort.unsorted();
@@ -106,6 +159,8 @@ public class ProductController {
         headers.add("X-Current-Elements", String.valueOf(result.getNumberOfElements()));
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
         headers.add("X-Total-Pages", String.valueOf(result.getTotalPages()));
+        var totalExact = !(result instanceof ProductSearchPage searchPage) || searchPage.isTotalExact();
+        headers.add("X-Total-Count-Relation", totalExact ? "eq" : "gte");
         return headers;
     }
 
@@ -0,0 +1,45 @@
+package com.techmath.ecommerce.presentation.controllers;
+
+import com.techmath.ecommerce.infrastructure.search.services.ProductReindexJob;
+import com.techmath.ecommerce.infrastructure.search.services.ReindexProgress;
+import com.techmath.ecommerce.presentation.dto.response.ReindexResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/search/reindex")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SearchAdminController {
+
+    private final ProductReindexJob reindexJob;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReindexResponse startReindex() {
+        return toResponse(reindexJob.start());
+    }
+
+    @GetMapping
+    public ReindexResponse getReindex() {
+        return toResponse(reindexJob.getProgress());
+    }
+
+    private ReindexResponse toResponse(ReindexProgress progress) {
+        return ReindexResponse.builder()
+                .state(progress.state())
+                .targetIndex(progress.targetIndex())
+                .previousIndices(progress.previousIndices())
+                .totalProducts(progress.totalProducts())
+                .indexedProducts(progress.indexedProducts())
+                .retriedBatches(progress.retriedBatches())
+                .documentsPerSecond(progress.documentsPerSecond())
+                .startedAt(progress.startedAt())
+                .finishedAt(progress.finishedAt())
+                .error(progress.error())
+                .build();
+    }
+
+}
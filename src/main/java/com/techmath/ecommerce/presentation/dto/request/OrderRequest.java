@@ -0,0 +1,11 @@
+package com.techmath.ecommerce.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record OrderRequest(
+        @NotEmpty
+        List<@Valid OrderItemsRequest> items
+){}
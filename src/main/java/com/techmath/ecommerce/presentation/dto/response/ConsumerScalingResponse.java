@@ -0,0 +1,22 @@
+package com.techmath.ecommerce.presentation.dto.response;
+
+import com.techmath.ecommerce.infrastructure.messaging.scaling.LagSample;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class ConsumerScalingResponse {
+
+    private String listenerId;
+    private String topic;
+    private Integer concurrency;
+    private Integer minConcurrency;
+    private Integer maxConcurrency;
+    private List<LagSample> samples;
+
+}
@@ -0,0 +1,29 @@
+package com.techmath.ecommerce.presentation.dto.response;
+
+import com.techmath.ecommerce.domain.enums.DeadLetterStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class DeadLetterEventResponse {
+
+    private UUID id;
+    private String originalTopic;
+    private Integer originalPartition;
+    private Long originalOffset;
+    private String messageKey;
+    private String payload;
+    private String exceptionClass;
+    private String exceptionMessage;
+    private Integer attempts;
+    private DeadLetterStatus status;
+    private LocalDateTime failedAt;
+    private LocalDateTime redrivenAt;
+
+}
@@ -17,5 +17,10 @@ public class OrderResponse {
     private UUID orderId;
     private OrderStatus status;
     private String message;
+    private UUID requestId;
+
+    public OrderResponse(UUID orderId, OrderStatus status, String message) {
+        this(orderId, status, message, null);
+    }
 
 }
@@ -0,0 +1,27 @@
+package com.techmath.ecommerce.presentation.dto.response;
+
+import com.techmath.ecommerce.infrastructure.search.services.ReindexProgress;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class ReindexResponse {
+
+    private ReindexProgress.State state;
+    private String targetIndex;
+    private List<String> previousIndices;
+    private Long totalProducts;
+    private Long indexedProducts;
+    private Long retriedBatches;
+    private Double documentsPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+
+}
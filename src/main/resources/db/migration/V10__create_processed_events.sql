@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS processed_event_tb (
+    event_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    consumer VARCHAR(50) NOT NULL,
+    processed_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_processed_event_processed_at ON processed_event_tb(processed_at);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS dead_letter_event_tb (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    original_topic VARCHAR(255) NOT NULL,
+    original_partition INT NOT NULL,
+    original_offset BIGINT NOT NULL,
+    message_key VARCHAR(255),
+    payload TEXT NOT NULL,
+    exception_class VARCHAR(255),
+    exception_message TEXT,
+    attempts INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    failed_at DATETIME(6),
+    redriven_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_dead_letter_original UNIQUE (original_topic, original_partition, original_offset)
+);
+
+CREATE INDEX idx_dead_letter_status_created_at ON dead_letter_event_tb(status, created_at);
@@ -0,0 +1,3 @@
+ALTER TABLE outbox_event_tb ADD COLUMN content_type VARCHAR(100) NOT NULL DEFAULT 'application/json';
+
+ALTER TABLE dead_letter_event_tb ADD COLUMN content_type VARCHAR(100) NOT NULL DEFAULT 'application/json';
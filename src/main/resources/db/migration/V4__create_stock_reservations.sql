@@ -0,0 +1,17 @@
+ALTER TABLE product_tb ADD COLUMN reserved_quantity INT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS stock_reservation_tb (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    order_id BINARY(16) NOT NULL,
+    product_id BINARY(16) NOT NULL,
+    quantity INT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    FOREIGN KEY (order_id) REFERENCES order_tb(id),
+    FOREIGN KEY (product_id) REFERENCES product_tb(product_id)
+);
+
+CREATE INDEX idx_reservation_status_expires_at ON stock_reservation_tb(status, expires_at);
+CREATE INDEX idx_reservation_order_id_status ON stock_reservation_tb(order_id, status);
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS inventory_ledger_flush_tb (
+    batch_id BINARY(16) NOT NULL PRIMARY KEY,
+    entries INT NOT NULL,
+    flushed_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS idempotency_record_tb (
+    idempotency_key VARCHAR(64) NOT NULL PRIMARY KEY,
+    operation VARCHAR(50) NOT NULL,
+    response_body TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_expires_at ON idempotency_record_tb(expires_at);
@@ -0,0 +1,2 @@
+ALTER TABLE product_tb ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE order_tb ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+ALTER TABLE order_tb ADD COLUMN intake_request_id BINARY(16) NULL;
+
+CREATE UNIQUE INDEX uk_order_intake_request_id ON order_tb(intake_request_id);
+
+CREATE TABLE IF NOT EXISTS order_intake_rejection_tb (
+    request_id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    reason TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS outbox_event_tb (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    aggregate_id BINARY(16) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_outbox_created_at ON outbox_event_tb(created_at);
@@ -0,0 +1,186 @@
+package com.techmath.ecommerce.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmath.ecommerce.domain.entities.IdempotencyRecord;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.domain.repositories.IdempotencyRecordRepository;
+import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService - Unit Tests")
+class IdempotencyServiceTests {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyService idempotencyService;
+    private ObjectMapper objectMapper;
+    private OrderResponse response;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        idempotencyService = new IdempotencyService(repository, objectMapper, transactionManager, Duration.ofHours(1), 100, Duration.ofSeconds(5));
+        response = new OrderResponse(UUID.randomUUID(), OrderStatus.PENDING, null);
+    }
+
+    @Test
+    @DisplayName("Should execute the action directly when no key is given")
+    void shouldExecuteDirectlyWithoutKey() {
+        var result = idempotencyService.execute(null, "create-order", OrderResponse.class, () -> response);
+
+        assertThat(result).isSameAs(response);
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should return the cached response for a repeated key without executing again")
+    void shouldReturnCachedResponseForRepeatedKey() {
+        var executions = new AtomicInteger();
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        when(repository.save(any(IdempotencyRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var first = idempotencyService.execute("key-1", "create-order", OrderResponse.class, () -> {
+            executions.incrementAndGet();
+            return response;
+        });
+        var second = idempotencyService.execute("key-1", "create-order", OrderResponse.class, () -> {
+            executions.incrementAndGet();
+            return response;
+        });
+
+        assertThat(executions).hasValue(1);
+        assertThat(first).isEqualTo(response);
+        assertThat(second).isEqualTo(response);
+        verify(repository, times(1)).findById(anyString());
+        verify(repository, times(1)).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should return the stored response without executing the action")
+    void shouldReturnStoredResponse() throws Exception {
+        var record = IdempotencyRecord.builder()
+                .key("stored")
+                .operation("create-order")
+                .responseBody(objectMapper.writeValueAsString(response))
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(repository.findById(anyString())).thenReturn(Optional.of(record));
+
+        var result = idempotencyService.execute("key-1", "create-order", OrderResponse.class, () -> {
+            throw new AssertionError("Action must not run for a stored key");
+        });
+
+        assertThat(result).isEqualTo(response);
+        verify(repository, never()).save(any(IdempotencyRecord.class));
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should make concurrent duplicates wait for the in-flight execution")
+    void shouldWaitForInFlightExecution() throws Exception {
+        var executions = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        when(repository.save(any(IdempotencyRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", "pay-order", OrderResponse.class, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return response;
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", "pay-order", OrderResponse.class, () -> {
+                    executions.incrementAndGet();
+                    return response;
+                }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should execute again when the stored record has expired")
+    void shouldExecuteAgainWhenStoredRecordExpired() throws Exception {
+        var expired = IdempotencyRecord.builder()
+                .key("stored")
+                .operation("create-order")
+                .responseBody(objectMapper.writeValueAsString(new OrderResponse(UUID.randomUUID(), OrderStatus.PAID, null)))
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(repository.findById(anyString())).thenReturn(Optional.of(expired));
+        when(repository.save(any(IdempotencyRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = idempotencyService.execute("key-1", "create-order", OrderResponse.class, () -> response);
+
+        assertThat(result).isEqualTo(response);
+        verify(repository, times(1)).save(argThat(record -> !record.isExpired()));
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for an in-flight duplicate after the wait timeout")
+    void shouldStopWaitingForInFlightExecutionAfterTimeout() throws Exception {
+        idempotencyService = new IdempotencyService(repository, objectMapper, transactionManager, Duration.ofHours(1), 100, Duration.ofMillis(50));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        when(repository.save(any(IdempotencyRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", "pay-order", OrderResponse.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return response;
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", "pay-order", OrderResponse.class, () -> response))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("still being processed");
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
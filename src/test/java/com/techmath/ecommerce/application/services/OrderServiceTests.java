@@ -1,9 +1,11 @@
 package com.techmath.ecommerce.application.services;
 
 import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.OrderItem;
 import com.techmath.ecommerce.domain.entities.Product;
 import com.techmath.ecommerce.domain.enums.OrderStatus;
 import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.domain.exceptions.InvalidOrderStateException;
 import com.techmath.ecommerce.domain.repositories.OrderRepository;
 import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,11 +18,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +38,9 @@ class OrderServiceTests {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -61,12 +69,14 @@ class OrderServiceTests {
         var itemRequest = new OrderItemsRequest(productId, 5);
         var items = List.of(itemRequest);
 
-        when(productService.getProductById(productId)).thenReturn(product);
+        when(productService.getProductsByIds(Set.of(productId))).thenReturn(Map.of(productId, product));
+        stubAvailableStock();
         when(repository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.setId(orderId);
             return order;
         });
+        when(stockReservationService.reserve(any(Order.class))).thenReturn(true);
 
         var result = orderService.createOrder(items);
 
@@ -77,13 +87,33 @@ class OrderServiceTests {
         verify(repository, times(1)).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("Should merge duplicated products into a single order item")
+    void shouldMergeDuplicatedProductsIntoSingleOrderItem() {
+        var items = List.of(new OrderItemsRequest(productId, 2), new OrderItemsRequest(productId, 3));
+
+        when(productService.getProductsByIds(Set.of(productId))).thenReturn(Map.of(productId, product));
+        stubAvailableStock();
+        when(repository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(stockReservationService.reserve(any(Order.class))).thenReturn(true);
+
+        var result = orderService.createOrder(items);
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getQuantity()).isEqualTo(5);
+        assertThat(result.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(499.95));
+        verify(productService, times(1)).getProductsByIds(Set.of(productId));
+        verify(productService, never()).getProductById(any(UUID.class));
+    }
+
     @Test
     @DisplayName("Should cancel order when stock is insufficient")
     void shouldCancelOrderWhenStockIsInsufficient() {
         var itemRequest = new OrderItemsRequest(productId, 15);
         var items = List.of(itemRequest);
 
-        when(productService.getProductById(productId)).thenReturn(product);
+        when(productService.getProductsByIds(Set.of(productId))).thenReturn(Map.of(productId, product));
+        stubAvailableStock();
         when(repository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
         doThrow(new InsufficientStockException("Insufficient stock"))
                 .when(productService).handleInsufficientStock(any(Order.class));
@@ -94,6 +124,72 @@ class OrderServiceTests {
 
         verify(repository, times(1)).saveAndFlush(any(Order.class));
         verify(productService, times(1)).handleInsufficientStock(any(Order.class));
+        verify(stockReservationService, never()).reserve(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an order using the availability reported by the product service")
+    void shouldRejectOrderWhenProductServiceReportsNoStock() {
+        var items = List.of(new OrderItemsRequest(productId, 5));
+
+        when(productService.getProductsByIds(Set.of(productId))).thenReturn(Map.of(productId, product));
+        when(productService.hasAvailableStock(product, 5)).thenReturn(false);
+        when(repository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new InsufficientStockException("Insufficient stock"))
+                .when(productService).handleInsufficientStock(any(Order.class));
+
+        assertThatThrownBy(() -> orderService.createOrder(items))
+                .isInstanceOf(InsufficientStockException.class);
+        verify(stockReservationService, never()).reserve(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should fail order creation when stock reservation is lost to a concurrent order")
+    void shouldFailOrderCreationWhenStockReservationIsLost() {
+        var items = List.of(new OrderItemsRequest(productId, 5));
+
+        when(productService.getProductsByIds(Set.of(productId))).thenReturn(Map.of(productId, product));
+        stubAvailableStock();
+        when(repository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(stockReservationService.reserve(any(Order.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> orderService.createOrder(items))
+                .isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("Should cancel pending order and release its reservations")
+    void shouldCancelPendingOrderAndReleaseReservations() {
+        var order = Order.builder()
+                .id(orderId)
+                .status(OrderStatus.PENDING)
+                .totalAmount(BigDecimal.TEN)
+                .build();
+
+        when(repository.findById(orderId)).thenReturn(Optional.of(order));
+        when(repository.save(order)).thenReturn(order);
+
+        var result = orderService.cancelOrder(orderId);
+
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(stockReservationService, times(1)).release(orderId);
+    }
+
+    @Test
+    @DisplayName("Should not cancel an order that is already paid")
+    void shouldNotCancelPaidOrder() {
+        var order = Order.builder()
+                .id(orderId)
+                .status(OrderStatus.PAID)
+                .totalAmount(BigDecimal.TEN)
+                .build();
+
+        when(repository.findById(orderId)).thenReturn(Optional.of(order));
+
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId))
+                .isInstanceOf(InvalidOrderStateException.class);
+
+        verify(stockReservationService, never()).release(any(UUID.class));
     }
 
     @Test
@@ -149,4 +245,66 @@ class OrderServiceTests {
         verify(repository, times(1)).save(order);
     }
 
+    @Test
+    @DisplayName("Should keep the order total in step with items added one by one")
+    void shouldAccumulateTotalWhenAppendingItems() {
+        var order = new Order();
+
+        order.addItem(product, 2);
+        order.addItem(product, 1);
+
+        assertThat(order.getItems()).hasSize(2);
+        assertThat(order.getTotalAmount()).isEqualByComparingTo("299.97");
+    }
+
+    @Test
+    @DisplayName("Should add every line of a bulk add to the order total")
+    void shouldAccumulateTotalWhenAddingItemsInBulk() {
+        var otherProduct = Product.builder().id(UUID.randomUUID()).name("Other").price(BigDecimal.valueOf(5.50)).build();
+        var order = new Order();
+        order.addItem(product, 1);
+
+        order.addItems(Map.of(product, 2, otherProduct, 4));
+
+        assertThat(order.getItems()).hasSize(3);
+        assertThat(order.getTotalAmount()).isEqualByComparingTo("321.97");
+        assertThat(order.getTotalAmount()).isEqualByComparingTo(order.getItems().stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    @Test
+    @DisplayName("Should subtract a removed item from the order total")
+    void shouldSubtractRemovedItemFromTotal() {
+        var otherProduct = Product.builder().id(UUID.randomUUID()).name("Other").price(BigDecimal.valueOf(5.50)).build();
+        var order = new Order();
+        order.addItems(Map.of(product, 2, otherProduct, 4));
+        order.getItems().forEach(item -> item.setId(UUID.randomUUID().toString()));
+        var removed = order.getItems().stream()
+                .filter(item -> item.getProduct().equals(otherProduct))
+                .findFirst()
+                .orElseThrow();
+
+        order.removeItem(removed);
+
+        assertThat(order.getItems()).hasSize(1).doesNotContain(removed);
+        assertThat(order.getTotalAmount()).isEqualByComparingTo("199.98");
+    }
+
+    @Test
+    @DisplayName("Should leave the order total unchanged when items cannot be changed")
+    void shouldRejectItemChangesOnPaidOrder() {
+        var order = new Order();
+        order.addItem(product, 1);
+        order.processPayment();
+
+        assertThatThrownBy(() -> order.addItems(Map.of(product, 1))).isInstanceOf(InvalidOrderStateException.class);
+        assertThat(order.getTotalAmount()).isEqualByComparingTo("99.99");
+    }
+
+    private void stubAvailableStock() {
+        when(productService.hasAvailableStock(any(Product.class), anyInt()))
+                .thenAnswer(invocation -> invocation.<Product>getArgument(0).hasAvailableStock(invocation.getArgument(1)));
+    }
+
 }
@@ -3,6 +3,9 @@ package com.techmath.ecommerce.application.services;
 import com.techmath.ecommerce.domain.entities.Product;
 import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
 import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.concurrency.OptimisticLockRetryExecutor;
+import com.techmath.ecommerce.infrastructure.inventory.HotProductStockQueue;
+import com.techmath.ecommerce.infrastructure.inventory.InventoryLedger;
 import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,10 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,6 +44,15 @@ class ProductServiceTests {
     @Mock
     private ProductSearchService searchService;
 
+    @Mock
+    private ObjectProvider<InventoryLedger> inventoryLedger;
+
+    @Mock
+    private HotProductStockQueue hotProductStockQueue;
+
+    @Mock
+    private OptimisticLockRetryExecutor retryExecutor;
+
     @InjectMocks
     private ProductService productService;
 
@@ -87,6 +108,32 @@ class ProductServiceTests {
                 .hasMessageContaining("Product not found with id: " + productId);
     }
 
+    @Test
+    @DisplayName("Should get products by ids in a single query")
+    void shouldGetProductsByIdsInSingleQuery() {
+        when(repository.findAllById(Set.of(productId))).thenReturn(List.of(product));
+
+        var result = productService.getProductsByIds(Set.of(productId));
+
+        assertThat(result).containsEntry(productId, product);
+        verify(repository, times(1)).findAllById(Set.of(productId));
+    }
+
+    @Test
+    @DisplayName("Should report every missing product id at once")
+    void shouldReportEveryMissingProductIdAtOnce() {
+        var missingId = UUID.randomUUID();
+        var otherMissingId = UUID.randomUUID();
+        var ids = new LinkedHashSet<>(List.of(productId, missingId, otherMissingId));
+
+        when(repository.findAllById(ids)).thenReturn(List.of(product));
+
+        assertThatThrownBy(() -> productService.getProductsByIds(ids))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining(missingId.toString())
+                .hasMessageContaining(otherMissingId.toString());
+    }
+
     @Test
     @DisplayName("Should update product successfully")
     void shouldUpdateProductSuccessfully() {
@@ -98,6 +145,8 @@ class ProductServiceTests {
                 .stockQuantity(20)
                 .build();
 
+        when(retryExecutor.execute(eq("product.update"), eq(productId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         when(repository.findById(productId)).thenReturn(Optional.of(product));
         when(repository.save(any(Product.class))).thenReturn(product);
         doNothing().when(searchService).syncProduct(any(Product.class));
@@ -105,6 +154,7 @@ class ProductServiceTests {
         var result = productService.updateProduct(productId, updatedProduct);
 
         assertThat(result).isNotNull();
+        verify(retryExecutor, times(1)).execute(eq("product.update"), eq(productId), any());
         verify(repository, times(1)).findById(productId);
         verify(repository, times(1)).save(any(Product.class));
         verify(searchService, times(1)).syncProduct(any(Product.class));
@@ -115,14 +165,14 @@ class ProductServiceTests {
     void shouldUpdateProductStockSuccessfully() {
         var quantityToDecrease = 5;
         when(repository.save(any(Product.class))).thenReturn(product);
-        doNothing().when(searchService).syncProduct(any(Product.class));
+        doNothing().when(searchService).syncStock(any(Product.class));
 
         var result = productService.updateProductStock(product, quantityToDecrease);
 
         assertThat(result).isNotNull();
         assertThat(result.getStockQuantity()).isEqualTo(5);
         verify(repository, times(1)).save(product);
-        verify(searchService, times(1)).syncProduct(product);
+        verify(searchService, times(1)).syncStock(product);
     }
 
     @Test
@@ -135,6 +185,140 @@ class ProductServiceTests {
                 .hasMessageContaining("Insufficient stock for product: Test Product");
     }
 
+    @Test
+    @DisplayName("Should decrease stock with a single conditional update")
+    void shouldDecreaseStockWithSingleConditionalUpdate() {
+        when(repository.decreaseStock(productId, 5, 0)).thenReturn(1);
+        when(repository.findById(productId)).thenReturn(Optional.of(product));
+
+        productService.decreaseStock(productId, 5);
+
+        verify(repository, times(1)).decreaseStock(productId, 5, 0);
+        verify(repository, never()).save(any(Product.class));
+        verify(searchService, times(1)).syncStock(product);
+    }
+
+    @Test
+    @DisplayName("Should throw InsufficientStockException when conditional update affects no rows")
+    void shouldThrowInsufficientStockExceptionWhenConditionalUpdateAffectsNoRows() {
+        when(repository.decreaseStock(productId, 15, 0)).thenReturn(0);
+        when(repository.findById(productId)).thenReturn(Optional.of(product));
+
+        assertThatThrownBy(() -> productService.decreaseStock(productId, 15))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Insufficient stock for product: Test Product");
+
+        verify(searchService, never()).syncStock(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Should decrease stock in the inventory ledger when it is enabled")
+    void shouldDecreaseStockInInventoryLedgerWhenEnabled() {
+        var ledger = mock(InventoryLedger.class);
+        when(inventoryLedger.getIfAvailable()).thenReturn(ledger);
+        when(ledger.decrease(productId, 5)).thenReturn(true);
+
+        productService.decreaseStock(productId, 5);
+
+        verify(ledger, times(1)).decrease(productId, 5);
+        verify(repository, never()).decreaseStock(any(UUID.class), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should check availability against the inventory ledger when it is enabled")
+    void shouldCheckAvailabilityAgainstInventoryLedger() {
+        var ledger = mock(InventoryLedger.class);
+        when(inventoryLedger.getIfAvailable()).thenReturn(ledger);
+        when(ledger.getAvailableQuantity(productId)).thenReturn(3);
+
+        assertThat(productService.hasAvailableStock(product, 3)).isTrue();
+        assertThat(productService.hasAvailableStock(product, 4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should route hot product stock changes through the single-writer queue")
+    void shouldRouteHotProductStockChangesThroughSingleWriterQueue() {
+        when(hotProductStockQueue.isHot(productId)).thenReturn(true);
+        productService.decreaseStock(productId, 5);
+
+        verify(hotProductStockQueue, times(1)).decreaseStock(productId, 5, 0);
+        verify(repository, never()).decreaseStock(any(UUID.class), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reserve and release hot product stock through the single-writer queue")
+    void shouldReserveAndReleaseHotProductStockThroughQueue() {
+        when(hotProductStockQueue.isHot(productId)).thenReturn(true);
+
+        assertThat(productService.reserveStock(productId, 5)).isTrue();
+        productService.releaseReservedStock(productId, 5);
+
+        verify(hotProductStockQueue).decreaseStock(productId, 0, -5);
+        verify(hotProductStockQueue).decreaseStock(productId, 0, 5);
+        verify(repository, never()).reserveStock(any(UUID.class), anyInt());
+        verify(repository, never()).releaseReservedStock(any(UUID.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should release a hot product reservation when the transaction rolls back")
+    void shouldCompensateHotProductReservationOnRollback() {
+        when(hotProductStockQueue.isHot(productId)).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            productService.reserveStock(productId, 5);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(hotProductStockQueue).compensate(productId, 0, -5);
+    }
+
+    @Test
+    @DisplayName("Should undo hot product reservations of a batch when a later hot line cannot be reserved")
+    void shouldUndoHotReservationsWhenBatchFails() {
+        var otherProduct = Product.builder().id(UUID.randomUUID()).name("Other").stockQuantity(1).build();
+        when(hotProductStockQueue.isHot(any(UUID.class))).thenReturn(true);
+        doThrow(new InsufficientStockException("Insufficient stock"))
+                .when(hotProductStockQueue).decreaseStock(otherProduct.getId(), 0, -2);
+        var lines = new LinkedHashMap<Product, Integer>();
+        lines.put(product, 4);
+        lines.put(otherProduct, 2);
+
+        assertThat(productService.reserveStock(lines)).isFalse();
+
+        verify(hotProductStockQueue).compensate(productId, 0, -4);
+        assertThat(product.getReservedQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read hot products without locking their rows")
+    void shouldNotLockHotProductRows() {
+        var otherId = UUID.randomUUID();
+        when(hotProductStockQueue.isHot(productId)).thenReturn(true);
+        when(repository.findAllById(List.of(productId))).thenReturn(List.of(product));
+
+        productService.lockProductsByIds(List.of(productId, otherId));
+
+        verify(repository).findAllByIdForUpdate(List.of(otherId));
+        verify(repository).findAllById(List.of(productId));
+    }
+
+    @Test
+    @DisplayName("Should reserve every line of a locked product batch or none")
+    void shouldReserveLockedProductsAllOrNothing() {
+        var otherProduct = Product.builder().id(UUID.randomUUID()).name("Other").stockQuantity(1).build();
+
+        assertThat(productService.reserveStock(Map.of(product, 4, otherProduct, 2))).isFalse();
+        assertThat(product.getReservedQuantity()).isZero();
+
+        assertThat(productService.reserveStock(Map.of(product, 4, otherProduct, 1))).isTrue();
+        assertThat(product.getReservedQuantity()).isEqualTo(4);
+        assertThat(otherProduct.getReservedQuantity()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should delete product successfully")
     void shouldDeleteProductSuccessfully() {
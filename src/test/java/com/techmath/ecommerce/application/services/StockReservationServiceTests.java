@@ -0,0 +1,145 @@
+package com.techmath.ecommerce.application.services;
+
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.entities.StockReservation;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
+import com.techmath.ecommerce.domain.enums.ReservationStatus;
+import com.techmath.ecommerce.domain.repositories.OrderRepository;
+import com.techmath.ecommerce.domain.repositories.StockReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationService - Unit Tests")
+class StockReservationServiceTests {
+
+    @Mock
+    private StockReservationRepository repository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @InjectMocks
+    private StockReservationService stockReservationService;
+
+    private Product firstProduct;
+    private Product secondProduct;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(stockReservationService, "reservationTtl", Duration.ofMinutes(15));
+
+        firstProduct = Product.builder()
+                .id(UUID.randomUUID())
+                .name("First Product")
+                .price(BigDecimal.TEN)
+                .category("Electronics")
+                .stockQuantity(10)
+                .build();
+
+        secondProduct = Product.builder()
+                .id(UUID.randomUUID())
+                .name("Second Product")
+                .price(BigDecimal.ONE)
+                .category("Electronics")
+                .stockQuantity(10)
+                .build();
+
+        order = new Order();
+        order.setId(UUID.randomUUID());
+        order.addItem(firstProduct, 2);
+        order.addItem(secondProduct, 3);
+    }
+
+    @Test
+    @DisplayName("Should reserve stock for every order item")
+    void shouldReserveStockForEveryOrderItem() {
+        when(productService.reserveStock(any(UUID.class), anyInt())).thenReturn(true);
+
+        var result = stockReservationService.reserve(order);
+
+        assertThat(result).isTrue();
+        verify(productService).reserveStock(firstProduct.getId(), 2);
+        verify(productService).reserveStock(secondProduct.getId(), 3);
+        verify(repository).saveAll(argThat((List<StockReservation> reservations) -> reservations.size() == 2
+                && reservations.stream().allMatch(r -> r.getStatus() == ReservationStatus.ACTIVE
+                && r.getExpiresAt().isAfter(LocalDateTime.now()))));
+    }
+
+    @Test
+    @DisplayName("Should release partial reservations when an item cannot be reserved")
+    void shouldReleasePartialReservationsWhenItemCannotBeReserved() {
+        when(productService.reserveStock(firstProduct.getId(), 2)).thenReturn(true);
+        when(productService.reserveStock(secondProduct.getId(), 3)).thenReturn(false);
+
+        var result = stockReservationService.reserve(order);
+
+        assertThat(result).isFalse();
+        verify(productService).releaseReservedStock(firstProduct.getId(), 2);
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should release expired reservations and cancel their pending orders")
+    void shouldReleaseExpiredReservationsAndCancelPendingOrders() {
+        var reservation = StockReservation.builder()
+                .orderId(order.getId())
+                .productId(firstProduct.getId())
+                .quantity(2)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+
+        when(repository.findExpired(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(reservation));
+        when(repository.findByOrderIdAndStatus(order.getId(), ReservationStatus.ACTIVE)).thenReturn(List.of(reservation));
+        when(repository.updateActiveStatusByOrderId(order.getId(), ReservationStatus.RELEASED)).thenReturn(1);
+        when(orderRepository.updatePendingStatus(List.of(order.getId()), OrderStatus.CANCELLED)).thenReturn(1);
+
+        var released = stockReservationService.releaseExpired(100);
+
+        assertThat(released).isEqualTo(1);
+        verify(productService).releaseReservedStock(firstProduct.getId(), 2);
+        verify(orderRepository).updatePendingStatus(List.of(order.getId()), OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should not release reservations already converted by payment")
+    void shouldNotReleaseReservationsAlreadyConverted() {
+        var reservation = StockReservation.builder()
+                .orderId(order.getId())
+                .productId(firstProduct.getId())
+                .quantity(2)
+                .build();
+
+        when(repository.findByOrderIdAndStatus(order.getId(), ReservationStatus.ACTIVE)).thenReturn(List.of(reservation));
+        when(repository.updateActiveStatusByOrderId(order.getId(), ReservationStatus.RELEASED)).thenReturn(0);
+
+        var released = stockReservationService.release(order.getId());
+
+        assertThat(released).isFalse();
+        verify(productService, never()).releaseReservedStock(any(UUID.class), anyInt());
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.techmath.ecommerce.application.usecases;
+
+import com.techmath.ecommerce.application.converters.OrderConverter;
+import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.ProductService;
+import com.techmath.ecommerce.application.services.StockReservationService;
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
+import com.techmath.ecommerce.presentation.dto.request.OrderRequest;
+import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateOrderBatchUseCase - Unit Tests")
+class CreateOrderBatchUseCaseTests {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OrderConverter orderConverter;
+
+    @InjectMocks
+    private CreateOrderBatchUseCase createOrderBatchUseCase;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(createOrderBatchUseCase, "maxBatchSize", 10);
+
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .name("Test Product")
+                .price(BigDecimal.valueOf(99.99))
+                .category("Electronics")
+                .stockQuantity(10)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should persist accepted orders in one batch and report rejected ones individually")
+    @SuppressWarnings("unchecked")
+    void shouldPersistAcceptedOrdersAndReportRejectedOnes() {
+        var missingProductId = UUID.randomUUID();
+        var requests = List.of(
+                new OrderRequest(List.of(new OrderItemsRequest(product.getId(), 2))),
+                new OrderRequest(List.of(new OrderItemsRequest(missingProductId, 1))),
+                new OrderRequest(List.of(new OrderItemsRequest(product.getId(), 50))));
+
+        when(orderService.mergeQuantitiesByProduct(anyList())).thenCallRealMethod();
+        when(productService.lockProductsByIds(any())).thenReturn(Map.of(product.getId(), product));
+        when(productService.reserveStock(Map.of(product, 2))).thenReturn(true);
+        when(productService.reserveStock(Map.of(product, 50))).thenReturn(false);
+        when(productService.getInsufficientStockMessage(any(Order.class))).thenReturn("insufficient");
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId(UUID.randomUUID()));
+            return orders;
+        });
+        when(orderConverter.toDTO(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            return new OrderResponse(order.getId(), order.getStatus(), null);
+        });
+
+        var result = createOrderBatchUseCase.execute(requests);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).getOrderId()).isNotNull();
+        assertThat(result.get(0).getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(result.get(1).getOrderId()).isNull();
+        assertThat(result.get(1).getMessage()).contains(missingProductId.toString());
+        assertThat(result.get(2).getOrderId()).isNull();
+        assertThat(result.get(2).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(result.get(2).getMessage()).isEqualTo("insufficient");
+
+        ArgumentCaptor<List<Order>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderService, times(1)).createOrders(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().getFirst().getTotalAmount()).isEqualByComparingTo("199.98");
+        verify(productService, times(1)).lockProductsByIds(any());
+        verify(stockReservationService, times(1)).recordReservations(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Should reject batches larger than the configured limit")
+    void shouldRejectOversizedBatch() {
+        ReflectionTestUtils.setField(createOrderBatchUseCase, "maxBatchSize", 1);
+        var request = new OrderRequest(List.of(new OrderItemsRequest(product.getId(), 1)));
+
+        assertThatThrownBy(() -> createOrderBatchUseCase.execute(List.of(request, request)))
+                .isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(productService, orderService, stockReservationService);
+    }
+
+}
@@ -2,7 +2,9 @@ package com.techmath.ecommerce.application.usecases;
 
 import com.techmath.ecommerce.application.converters.OrderConverter;
 import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.StockReservationService;
 import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.Product;
 import com.techmath.ecommerce.domain.enums.OrderStatus;
 import com.techmath.ecommerce.domain.events.OrderPaidEvent;
 import com.techmath.ecommerce.infrastructure.messaging.producers.OrderEventProducer;
@@ -33,6 +35,9 @@ class PayOrderUseCaseTests {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
     @Mock
     private OrderConverter orderConverter;
 
@@ -100,6 +105,43 @@ class PayOrderUseCaseTests {
         assertThat(capturedEvent.getOrderId()).isEqualTo(orderId);
         assertThat(capturedEvent.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(999.99));
         assertThat(capturedEvent.getPaidAt()).isNotNull();
+        assertThat(capturedEvent.isStockReserved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should include the order line items in the order paid event")
+    void shouldIncludeLineItemsInOrderPaidEvent() {
+        var product = Product.builder().id(UUID.randomUUID()).name("Mouse").price(BigDecimal.TEN).stockQuantity(100).build();
+        order.addItem(product, 3);
+        when(orderService.getOrderById(orderId)).thenReturn(Optional.of(order));
+        when(orderService.updateOrder(any(Order.class))).thenReturn(order);
+        when(orderConverter.toDTO(any(Order.class))).thenReturn(orderResponse);
+
+        var eventCaptor = ArgumentCaptor.forClass(OrderPaidEvent.class);
+
+        payOrderUseCase.execute(orderId);
+
+        verify(orderEventProducer).publishOrderPaidEvent(eventCaptor.capture());
+        var capturedEvent = eventCaptor.getValue();
+        assertThat(capturedEvent.getVersion()).isEqualTo(OrderPaidEvent.CURRENT_VERSION);
+        assertThat(capturedEvent.getItems()).containsExactly(new OrderPaidEvent.Item(product.getId(), 3, BigDecimal.TEN));
+        assertThat(capturedEvent.hasItems()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should convert stock reservations when paying order")
+    void shouldConvertStockReservationsWhenPayingOrder() {
+        when(orderService.getOrderById(orderId)).thenReturn(Optional.of(order));
+        when(orderService.updateOrder(any(Order.class))).thenReturn(order);
+        when(orderConverter.toDTO(any(Order.class))).thenReturn(orderResponse);
+        when(stockReservationService.convert(orderId)).thenReturn(true);
+
+        var eventCaptor = ArgumentCaptor.forClass(OrderPaidEvent.class);
+
+        payOrderUseCase.execute(orderId);
+
+        verify(orderEventProducer).publishOrderPaidEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isStockReserved()).isTrue();
     }
 
     @Test
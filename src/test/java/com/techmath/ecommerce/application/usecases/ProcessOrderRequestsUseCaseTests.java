@@ -0,0 +1,110 @@
+package com.techmath.ecommerce.application.usecases;
+
+import com.techmath.ecommerce.domain.entities.OrderIntakeRejection;
+import com.techmath.ecommerce.domain.entities.User;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
+import com.techmath.ecommerce.domain.enums.UserRole;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.domain.repositories.OrderIntakeRejectionRepository;
+import com.techmath.ecommerce.domain.repositories.OrderRepository;
+import com.techmath.ecommerce.domain.repositories.UserRepository;
+import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessOrderRequestsUseCase - Unit Tests")
+class ProcessOrderRequestsUseCaseTests {
+
+    @Mock
+    private CreateOrderBatchUseCase createOrderBatchUseCase;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderIntakeRejectionRepository rejectionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ProcessOrderRequestsUseCase processOrderRequestsUseCase;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("buyer@test.com")
+                .name("Buyer")
+                .role(UserRole.USER)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should create queued orders per user and record rejected requests")
+    @SuppressWarnings("unchecked")
+    void shouldCreateOrdersAndRecordRejections() {
+        var accepted = event(user.getId());
+        var rejected = event(user.getId());
+        when(orderRepository.findIntakeRequestIds(anyList())).thenReturn(List.of());
+        when(rejectionRepository.findAllById(anyList())).thenReturn(List.of());
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(createOrderBatchUseCase.execute(anyList(), eq(List.of(accepted.getRequestId(), rejected.getRequestId()))))
+                .thenAnswer(invocation -> {
+                    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(user);
+                    return List.of(
+                            new OrderResponse(UUID.randomUUID(), OrderStatus.PENDING, null),
+                            new OrderResponse(null, OrderStatus.CANCELLED, "insufficient"));
+                });
+
+        processOrderRequestsUseCase.execute(List.of(accepted, rejected));
+
+        ArgumentCaptor<List<OrderIntakeRejection>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rejectionRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(rejection -> {
+                    assertThat(rejection.getRequestId()).isEqualTo(rejected.getRequestId());
+                    assertThat(rejection.getReason()).isEqualTo("insufficient");
+                });
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip requests that were already processed")
+    void shouldSkipAlreadyProcessedRequests() {
+        var event = event(user.getId());
+        when(orderRepository.findIntakeRequestIds(anyList())).thenReturn(List.of(event.getRequestId()));
+        when(rejectionRepository.findAllById(anyList())).thenReturn(List.of());
+
+        processOrderRequestsUseCase.execute(List.of(event, event));
+
+        verifyNoInteractions(createOrderBatchUseCase, userRepository);
+        verify(rejectionRepository, never()).saveAll(any());
+    }
+
+    private OrderRequestedEvent event(UUID userId) {
+        return new OrderRequestedEvent(UUID.randomUUID(), userId,
+                List.of(new OrderRequestedEvent.Item(UUID.randomUUID(), 1)), LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeyOrderedExecutor - Unit Tests")
+class KeyOrderedExecutorTests {
+
+    private KeyOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor("test-lane", 8, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should run tasks of the same key in submission order")
+    void shouldPreserveOrderPerKey() throws InterruptedException {
+        Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+        var done = new CountDownLatch(400);
+
+        for (int i = 0; i < 100; i++) {
+            for (var key : List.of("order-1", "order-2", "order-3", "order-4")) {
+                var sequence = i;
+                executor.submit(key, () -> {
+                    seen.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(sequence);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        var expected = IntStream.range(0, 100).boxed().toList();
+        assertThat(seen).hasSize(4).allSatisfy((key, sequences) -> assertThat(sequences).isEqualTo(expected));
+    }
+
+    @Test
+    @DisplayName("Should keep running tasks of other keys while one key is blocked")
+    void shouldNotBlockOtherLanes() throws InterruptedException {
+        var blocker = new CountDownLatch(1);
+        var otherDone = new CountDownLatch(1);
+        var blockedKey = "order-1";
+        var otherKey = IntStream.range(0, 100).mapToObj(i -> "order-" + i)
+                .filter(key -> Math.floorMod(key.hashCode(), 8) != Math.floorMod(blockedKey.hashCode(), 8))
+                .findFirst().orElseThrow();
+
+        executor.submit(blockedKey, () -> awaitQuietly(blocker));
+        executor.submit(otherKey, otherDone::countDown);
+
+        assertThat(otherDone.await(5, TimeUnit.SECONDS)).isTrue();
+        blocker.countDown();
+    }
+
+    @Test
+    @DisplayName("Should keep a lane alive after a task fails")
+    void shouldSurviveFailingTask() throws InterruptedException {
+        var done = new CountDownLatch(1);
+
+        executor.submit("order-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.submit("order-1", done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drain queued tasks before terminating")
+    void shouldDrainOnClose() throws InterruptedException {
+        var done = new CountDownLatch(50);
+        IntStream.range(0, 50).forEach(i -> executor.submit("order-" + i, done::countDown));
+
+        executor.close();
+
+        assertThat(executor.awaitTermination(Duration.ofSeconds(5))).isTrue();
+        assertThat(done.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should make a submit wait while the lane of its key is full")
+    void shouldWaitForRoomOnFullLane() throws Exception {
+        executor.close();
+        executor = new KeyOrderedExecutor("test-lane", 1, 2);
+        var started = new CountDownLatch(1);
+        var blocker = new CountDownLatch(1);
+        executor.submit("order-1", () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("order-1", () -> {});
+        executor.submit("order-1", () -> {});
+        assertThat(executor.getMaxLaneDepth()).isEqualTo(2);
+
+        var submitted = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> {
+            executor.submit("order-1", () -> {});
+            submitted.countDown();
+        });
+
+        assertThat(submitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        blocker.countDown();
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drain a full lane before terminating")
+    void shouldDrainFullLaneOnClose() throws InterruptedException {
+        executor.close();
+        executor = new KeyOrderedExecutor("test-lane", 1, 2);
+        var blocker = new CountDownLatch(1);
+        var done = new CountDownLatch(2);
+        executor.submit("order-1", () -> awaitQuietly(blocker));
+        executor.submit("order-1", done::countDown);
+        executor.submit("order-1", done::countDown);
+
+        executor.close();
+        blocker.countDown();
+
+        assertThat(executor.awaitTermination(Duration.ofSeconds(5))).isTrue();
+        assertThat(done.getCount()).isZero();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OptimisticLockRetryExecutor - Unit Tests")
+class OptimisticLockRetryExecutorTests {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new OptimisticLockRetryExecutor(transactionManager, meterRegistry, 3, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    @Test
+    @DisplayName("Should retry optimistic lock failures until the action succeeds")
+    void shouldRetryUntilSuccess() {
+        var attempts = new AtomicInteger();
+
+        var result = retryExecutor.execute("product.update", "product-1", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Product", "product-1");
+            }
+            return "updated";
+        });
+
+        assertThat(result).isEqualTo("updated");
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("optimistic.lock.conflicts", "operation", "product.update").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("optimistic.lock.retries", "operation", "product.update").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured number of attempts")
+    void shouldGiveUpAfterMaxAttempts() {
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("product.update", "product-1", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Product", "product-1");
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("optimistic.lock.exhausted", "operation", "product.update").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry failures that are not conflicts")
+    void shouldNotRetryOtherFailures() {
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.run("order.paid", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+}
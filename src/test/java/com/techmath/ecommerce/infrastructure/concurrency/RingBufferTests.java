@@ -0,0 +1,119 @@
+package com.techmath.ecommerce.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RingBuffer - Unit Tests")
+class RingBufferTests {
+
+    private RingBuffer<Integer> ringBuffer;
+
+    @AfterEach
+    void tearDown() {
+        if (ringBuffer != null) {
+            ringBuffer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver published entries in order and in bounded batches")
+    void shouldDeliverInOrderInBatches() throws InterruptedException {
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        var done = new CountDownLatch(1_000);
+        ringBuffer = ringBuffer(16, 8, batch -> {
+            batchSizes.add(batch.size());
+            seen.addAll(batch);
+            batch.forEach(entry -> done.countDown());
+        });
+
+        IntStream.range(0, 1_000).forEach(ringBuffer::publish);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(seen).isEqualTo(IntStream.range(0, 1_000).boxed().toList());
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 8));
+    }
+
+    @Test
+    @DisplayName("Should block publishers while the buffer is full")
+    void shouldApplyBackpressureWhenFull() throws InterruptedException {
+        var blocker = new CountDownLatch(1);
+        var published = new CountDownLatch(1);
+        ringBuffer = ringBuffer(4, 1, batch -> awaitQuietly(blocker));
+
+        var publisher = Thread.ofVirtual().start(() -> {
+            IntStream.range(0, 6).forEach(ringBuffer::publish);
+            published.countDown();
+        });
+
+        assertThat(published.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        blocker.countDown();
+        assertThat(published.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.join();
+    }
+
+    @Test
+    @DisplayName("Should keep consuming after a batch fails")
+    void shouldSurviveFailingBatch() throws InterruptedException {
+        var done = new CountDownLatch(1);
+        ringBuffer = ringBuffer(8, 1, batch -> {
+            if (batch.getFirst() == 0) {
+                throw new IllegalStateException("boom");
+            }
+            done.countDown();
+        });
+
+        ringBuffer.publish(0);
+        ringBuffer.publish(1);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drain published entries before terminating and reject new ones")
+    void shouldDrainOnClose() throws InterruptedException {
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer = ringBuffer(64, 4, seen::addAll);
+        IntStream.range(0, 50).forEach(ringBuffer::publish);
+
+        ringBuffer.close();
+
+        assertThat(ringBuffer.awaitTermination(Duration.ofSeconds(5))).isTrue();
+        assertThat(seen).hasSize(50);
+        assertThat(ringBuffer.getBacklog()).isZero();
+        assertThatThrownBy(() -> ringBuffer.publish(50)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity that is not a power of two")
+    void shouldRejectInvalidCapacity() {
+        assertThatThrownBy(() -> new RingBuffer<Integer>("invalid", 10, 1, Duration.ofMillis(1), batch -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RingBuffer<Integer> ringBuffer(int capacity, int batchSize, Consumer<List<Integer>> consumer) {
+        return new RingBuffer<>("test-ring", capacity, batchSize, Duration.ofMillis(1), consumer);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
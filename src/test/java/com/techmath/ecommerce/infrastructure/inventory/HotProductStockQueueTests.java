@@ -0,0 +1,171 @@
+package com.techmath.ecommerce.infrastructure.inventory;
+
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("HotProductStockQueue - Unit Tests")
+class HotProductStockQueueTests {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID productId = UUID.randomUUID();
+    private final CountDownLatch writerBusy = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+
+    private HotProductStockQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = newQueue(Duration.ofSeconds(30), Duration.ofSeconds(5));
+        when(productRepository.decreaseStock(eq(productId), anyInt(), anyInt())).thenReturn(1);
+        when(productRepository.decreaseStock(productId, 1, 0)).thenAnswer(invocation -> {
+            writerBusy.countDown();
+            releaseWriter.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWriter.countDown();
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should commit commands queued behind a running commit as one group")
+    void shouldGroupQueuedCommands() throws Exception {
+        var blocking = blockWriter();
+        var first = queue.submit(productId, 2, 0);
+        var second = queue.submit(productId, 3, 1);
+
+        releaseWriter.countDown();
+        CompletableFuture.allOf(blocking, first, second).get(5, TimeUnit.SECONDS);
+
+        verify(productRepository).decreaseStock(productId, 5, 1);
+        verify(productRepository, never()).decreaseStock(productId, 2, 0);
+        verify(productRepository, never()).decreaseStock(productId, 3, 1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to one update per command when the grouped update fails")
+    void shouldFallBackToIndividualCommands() throws Exception {
+        when(productRepository.decreaseStock(productId, 5, 0)).thenReturn(0);
+        when(productRepository.decreaseStock(productId, 3, 0)).thenReturn(0);
+        var blocking = blockWriter();
+        var fits = queue.submit(productId, 2, 0);
+        var exceeds = queue.submit(productId, 3, 0);
+
+        releaseWriter.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+
+        assertThat(fits.get(5, TimeUnit.SECONDS)).isNull();
+        assertThatThrownBy(() -> exceeds.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InsufficientStockException.class);
+        verify(productRepository).decreaseStock(productId, 2, 0);
+    }
+
+    @Test
+    @DisplayName("Should not lose commands offered while an idle writer closes")
+    void shouldNotLoseCommandsWhenWriterClosesIdle() throws Exception {
+        queue.shutdown();
+        queue = newQueue(Duration.ofMillis(1), Duration.ofSeconds(5));
+
+        var results = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < 500; i++) {
+            results.add(queue.submit(productId, 2, 0));
+            if (i % 10 == 0) {
+                Thread.sleep(2);
+            }
+        }
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("Should drop a timed out command that the writer has not taken yet")
+    void shouldDropTimedOutQueuedCommand() throws Exception {
+        queue.shutdown();
+        queue = newQueue(Duration.ofSeconds(30), Duration.ofMillis(50));
+        var blocking = blockWriter();
+
+        assertThatThrownBy(() -> queue.decreaseStock(productId, 4, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Timed out");
+        releaseWriter.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        queue.submit(productId, 2, 0).get(5, TimeUnit.SECONDS);
+
+        verify(productRepository, never()).decreaseStock(productId, 4, 0);
+        verify(productRepository, never()).decreaseStock(productId, -4, 0);
+    }
+
+    @Test
+    @DisplayName("Should compensate a timed out command once the writer commits it")
+    void shouldCompensateTimedOutCommittedCommand() {
+        queue.shutdown();
+        queue = newQueue(Duration.ofSeconds(30), Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> queue.decreaseStock(productId, 1, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Timed out");
+        releaseWriter.countDown();
+
+        verify(productRepository, timeout(5000)).decreaseStock(productId, -1, 0);
+    }
+
+    @Test
+    @DisplayName("Should submit the inverse change when compensating")
+    void shouldSubmitInverseChangeWhenCompensating() {
+        queue.compensate(productId, 3, 2);
+
+        verify(productRepository, timeout(5000)).decreaseStock(productId, -3, -2);
+    }
+
+    private CompletableFuture<Void> blockWriter() throws InterruptedException {
+        var blocking = queue.submit(productId, 1, 0);
+        assertThat(writerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        return blocking;
+    }
+
+    private HotProductStockQueue newQueue(Duration idleTimeout, Duration submitTimeout) {
+        return new HotProductStockQueue(productRepository, productSearchService, transactionManager,
+                productId.toString(), 200, idleTimeout, submitTimeout);
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.techmath.ecommerce.infrastructure.inventory;
+
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("InventoryLedger - Unit Tests")
+class InventoryLedgerTests {
+
+    private static final int STRIPES = 4;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path journalDirectory;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .name("Keyboard")
+                .stockQuantity(10)
+                .build();
+        when(productRepository.findById(any(UUID.class))).thenAnswer(invocation -> Optional.of(product));
+        when(productRepository.findAllStockLevels()).thenAnswer(invocation -> List.of(stockLevel(product)));
+    }
+
+    @Test
+    @DisplayName("Should replay journaled deltas that were not flushed before a crash")
+    void shouldReplayJournalAfterCrash() throws Exception {
+        var crashed = newLedger();
+        crashed.decrease(product.getId(), 3);
+
+        newLedger();
+
+        verifyAppliedDelta(-3, 0);
+        verify(jdbcTemplate).update(contains("inventory_ledger_flush_tb"), any(byte[].class), eq(1), any(Timestamp.class));
+        assertThat(sealedSegments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip replaying a batch whose id was already flushed")
+    void shouldIgnoreRepeatedBatchId() throws IOException {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+        var ledger = newLedger();
+        ledger.decrease(product.getId(), 3);
+        ledger.flush();
+        assertThat(sealedSegments()).hasSize(1);
+
+        clearInvocations(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(contains("inventory_ledger_flush_tb"), eq(Integer.class), any(byte[].class)))
+                .thenReturn(1);
+        newLedger();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).update(contains("INSERT INTO inventory_ledger_flush_tb"), any(Object[].class));
+        verify(jdbcTemplate).update(contains("DELETE FROM inventory_ledger_flush_tb WHERE batch_id"), any(byte[].class));
+        assertThat(sealedSegments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep unflushed deltas in the counter when reloading after a failed flush")
+    void shouldReloadAfterFlushFailure() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+        var ledger = newLedger();
+        ledger.decrease(product.getId(), 3);
+
+        assertThatThrownBy(() -> ledger.flush(product.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(product.getId().toString());
+        ledger.reload(product.getId());
+        assertThat(ledger.getAvailableQuantity(product.getId())).isEqualTo(7);
+
+        doReturn(new int[0][]).when(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        ledger.flush(product.getId());
+        product.setStockQuantity(7);
+        ledger.reload(product.getId());
+
+        assertThat(ledger.getAvailableQuantity(product.getId())).isEqualTo(7);
+        verifyAppliedDelta(-3, 0);
+        assertThat(sealedSegments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should undo counter changes when the surrounding transaction rolls back")
+    void shouldCompensateOnRollback() {
+        var ledger = newLedger();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(ledger.decrease(product.getId(), 3)).isTrue();
+            assertThat(ledger.getAvailableQuantity(product.getId())).isEqualTo(7);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ledger.flush();
+
+        assertThat(ledger.getAvailableQuantity(product.getId())).isEqualTo(10);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Should not replay a change whose transaction had not committed before a crash")
+    void shouldNotReplayUncommittedChange() {
+        var crashed = newLedger();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(crashed.reserve(product.getId(), 3)).isTrue();
+            assertThat(crashed.getAvailableQuantity(product.getId())).isEqualTo(7);
+            newLedger();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Should journal a change once its transaction commits")
+    void shouldJournalChangeAfterCommit() throws Exception {
+        var crashed = newLedger();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            crashed.reserve(product.getId(), 3);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        newLedger();
+
+        verifyAppliedDelta(0, 3);
+    }
+
+    @Test
+    @DisplayName("Should write flushed batches in their own transaction")
+    void shouldFlushInNewTransaction() {
+        var ledger = newLedger();
+        ledger.decrease(product.getId(), 3);
+
+        ledger.flush();
+
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("Should flush only the stripe of the requested product")
+    void shouldFlushSingleStripe() throws Exception {
+        var other = Product.builder()
+                .id(idInOtherStripe(product.getId()))
+                .name("Mouse")
+                .stockQuantity(10)
+                .build();
+        when(productRepository.findAllStockLevels()).thenReturn(List.of(stockLevel(product), stockLevel(other)));
+        var ledger = newLedger();
+        ledger.decrease(product.getId(), 3);
+        ledger.decrease(other.getId(), 2);
+
+        ledger.flush(product.getId());
+
+        verifyAppliedDelta(-3, 0);
+        assertThat(ledger.getAvailableQuantity(other.getId())).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should forget a batch id once its journal segment is deleted and purge old ones")
+    void shouldForgetFlushedBatches() {
+        var ledger = newLedger();
+        ledger.decrease(product.getId(), 3);
+
+        ledger.flush();
+        ledger.purgeFlushedBatches();
+
+        verify(jdbcTemplate).update(contains("DELETE FROM inventory_ledger_flush_tb WHERE batch_id"), any(byte[].class));
+        verify(jdbcTemplate).update(contains("DELETE FROM inventory_ledger_flush_tb WHERE flushed_at"), argThat((Timestamp cutoff) ->
+                cutoff.toLocalDateTime().isBefore(LocalDateTime.now().minusDays(6))));
+    }
+
+    private InventoryLedger newLedger() {
+        var ledger = new InventoryLedger(productRepository, productSearchService, jdbcTemplate, transactionManager,
+                STRIPES, journalDirectory, true, Duration.ofDays(7));
+        ledger.initialize();
+        return ledger;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void verifyAppliedDelta(int stockDelta, int reservedDelta) throws Exception {
+        ArgumentCaptor<Collection> deltas = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter> setter = ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), deltas.capture(), anyInt(), setter.capture());
+
+        assertThat(deltas.getValue()).hasSize(1);
+        var statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement, deltas.getValue().iterator().next());
+        verify(statement).setInt(1, stockDelta);
+        verify(statement).setInt(2, reservedDelta);
+    }
+
+    private List<Path> sealedSegments() throws IOException {
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".sealed")).toList();
+        }
+    }
+
+    private static UUID idInOtherStripe(UUID productId) {
+        var stripe = Math.floorMod(productId.hashCode(), STRIPES);
+        UUID candidate;
+        do {
+            candidate = UUID.randomUUID();
+        } while (Math.floorMod(candidate.hashCode(), STRIPES) == stripe);
+        return candidate;
+    }
+
+    private static ProductRepository.StockLevel stockLevel(Product product) {
+        return new ProductRepository.StockLevel() {
+            @Override
+            public UUID getId() {
+                return product.getId();
+            }
+
+            @Override
+            public Integer getStockQuantity() {
+                return product.getStockQuantity();
+            }
+
+            @Override
+            public Integer getReservedQuantity() {
+                return product.getReservedQuantity();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerAutoscalingProperties;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerLagAutoscaler;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerLagSampler;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerProcessingTimes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsumerLagAutoscaler - Unit Tests")
+class ConsumerLagAutoscalerTests {
+
+    @Mock
+    private ConsumerLagSampler sampler;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, Object> container;
+
+    private ConsumerAutoscalingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ConsumerProcessingTimes processingTimes;
+    private ConsumerLagAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConsumerAutoscalingProperties();
+        properties.setMinConcurrency(1);
+        properties.setMaxConcurrency(4);
+        properties.setScaleUpLag(1_000);
+        properties.setScaleDownLag(100);
+        properties.setScaleDownSamples(2);
+        properties.setCooldown(Duration.ZERO);
+        properties.setTargetDrainTime(Duration.ofSeconds(60));
+        meterRegistry = new SimpleMeterRegistry();
+        processingTimes = new ConsumerProcessingTimes(meterRegistry);
+        autoscaler = new ConsumerLagAutoscaler(sampler, processingTimes, listenerRegistry, properties, meterRegistry, "group", "order.paid");
+
+        when(listenerRegistry.getListenerContainer("order-paid")).thenReturn(container);
+        when(container.isRunning()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should add consumers while the lag is not draining")
+    void shouldScaleUpOnGrowingLag() throws Exception {
+        when(container.getConcurrency()).thenReturn(2);
+        when(sampler.sample(eq("group"), eq("order.paid"), any())).thenReturn(offsets(4, 5_000, 0));
+
+        autoscaler.sampleAndScale();
+
+        InOrder inOrder = inOrder(container);
+        inOrder.verify(container).stop();
+        inOrder.verify(container).setConcurrency(3);
+        inOrder.verify(container).start();
+        assertThat(autoscaler.getHistory()).singleElement()
+                .satisfies(sample -> {
+                    assertThat(sample.totalLag()).isEqualTo(20_000);
+                    assertThat(sample.targetConcurrency()).isEqualTo(3);
+                });
+        assertThat(meterRegistry.get("kafka.consumer.lag").tag("partition", "0").gauge().value()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("Should size the consumer count from the measured per-record processing time")
+    void shouldScaleUpFromProcessingTime() throws Exception {
+        when(container.getConcurrency()).thenReturn(1);
+        when(sampler.sample(any(), any(), any())).thenReturn(offsets(4, 2_000, 0));
+        IntStream.range(0, 10).forEach(i -> processingTimes.record("order.paid", 0, Duration.ofMillis(30).toNanos()));
+
+        autoscaler.sampleAndScale();
+
+        verify(container).setConcurrency(4);
+        assertThat(autoscaler.getHistory()).singleElement()
+                .satisfies(sample -> assertThat(sample.processingMillis()).isEqualTo(30.0));
+        assertThat(meterRegistry.get("kafka.consumer.processing-millis").tag("partition", "0").gauge().value()).isEqualTo(30.0);
+        assertThat(meterRegistry.get("kafka.consumer.processing-time").tag("partition", "0").timer().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should never run more consumers than partitions or the configured maximum")
+    void shouldRespectUpperBound() throws Exception {
+        when(container.getConcurrency()).thenReturn(4);
+        when(sampler.sample(any(), any(), any())).thenReturn(offsets(4, 5_000, 0));
+
+        autoscaler.sampleAndScale();
+
+        verify(container, never()).setConcurrency(anyInt());
+        verify(container, never()).stop();
+    }
+
+    @Test
+    @DisplayName("Should shrink to the partition count when there are fewer partitions than consumers")
+    void shouldCapAtPartitionCount() throws Exception {
+        when(container.getConcurrency()).thenReturn(4);
+        when(sampler.sample(any(), any(), any())).thenReturn(offsets(2, 5_000, 0));
+
+        autoscaler.sampleAndScale();
+
+        verify(container).setConcurrency(2);
+    }
+
+    @Test
+    @DisplayName("Should remove a consumer only after several quiet samples")
+    void shouldScaleDownAfterQuietSamples() throws Exception {
+        when(container.getConcurrency()).thenReturn(3);
+        when(sampler.sample(any(), any(), any())).thenReturn(offsets(4, 20, 20));
+
+        autoscaler.sampleAndScale();
+        verify(container, never()).setConcurrency(anyInt());
+
+        autoscaler.sampleAndScale();
+        verify(container).setConcurrency(2);
+        assertThat(autoscaler.getHistory()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should leave stopped listeners alone")
+    void shouldSkipStoppedContainer() throws Exception {
+        when(container.isRunning()).thenReturn(false);
+
+        autoscaler.sampleAndScale();
+
+        verifyNoInteractions(sampler);
+        assertThat(autoscaler.getHistory()).isEmpty();
+    }
+
+    private List<ConsumerLagSampler.Offsets> offsets(int partitions, long lagPerPartition, long committed) {
+        return IntStream.range(0, partitions).boxed()
+                .map(partition -> new ConsumerLagSampler.Offsets(partition, committed + lagPerPartition, committed))
+                .toList();
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.infrastructure.messaging.codec.BinaryEventCodec;
+import com.techmath.ecommerce.infrastructure.messaging.codec.BinaryReader;
+import com.techmath.ecommerce.infrastructure.messaging.codec.BinaryWriter;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventDeserializer;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventFormat;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventSchema;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventSerializer;
+import com.techmath.ecommerce.infrastructure.messaging.codec.OrderPaidEventSchema;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Event codec - Unit Tests")
+class EventCodecTests {
+
+    private OrderPaidEvent event;
+    private EventSerializer serializer;
+    private EventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        event = new OrderPaidEvent(UUID.randomUUID(), new BigDecimal("1234.56"), LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000), true);
+
+        serializer = new EventSerializer();
+        serializer.configure(Map.of(EventSerializer.FORMAT_CONFIG, "binary", JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+
+        deserializer = new EventDeserializer();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, OrderPaidEvent.class.getPackageName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, OrderPaidEvent.class.getName()), false);
+    }
+
+    @Test
+    @DisplayName("Should round-trip an OrderPaidEvent through the binary format")
+    void shouldRoundTripBinary() {
+        var headers = new RecordHeaders();
+
+        var bytes = serializer.serialize("order.paid", headers, event);
+
+        assertThat(header(headers, EventFormat.CONTENT_TYPE_HEADER)).isEqualTo(EventFormat.BINARY.getContentType());
+        assertThat(header(headers, EventFormat.EVENT_TYPE_HEADER)).isEqualTo("OrderPaidEvent");
+        assertThat(deserializer.deserialize("order.paid", headers, bytes)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should round-trip line items of a current-version event in both formats")
+    void shouldRoundTripLineItems() {
+        var items = List.of(
+                new OrderPaidEvent.Item(UUID.randomUUID(), 2, new BigDecimal("99.90")),
+                new OrderPaidEvent.Item(UUID.randomUUID(), 1, new BigDecimal("15.00")));
+        var current = new OrderPaidEvent(event.getOrderId(), event.getTotalAmount(), event.getPaidAt(), true,
+                OrderPaidEvent.CURRENT_VERSION, items);
+        var json = new JsonSerializer<>().serialize("order.paid", current);
+
+        assertThat(BinaryEventCodec.DEFAULT.decode(OrderPaidEvent.class, BinaryEventCodec.DEFAULT.encode(current))).isEqualTo(current);
+        assertThat(deserializer.deserialize("order.paid", new RecordHeaders(), json)).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should round-trip decimals of any sign and scale and keep reading the following fields")
+    void shouldRoundTripDecimals() {
+        var values = List.of(new BigDecimal("1234.56"), new BigDecimal("-1234.56"), BigDecimal.ZERO, new BigDecimal("-0.0001"),
+                new BigDecimal("123456789012345678901234567890.123456789"), new BigDecimal("1E+300"), new BigDecimal("-7.5E-200"));
+
+        for (var value : values) {
+            var bytes = new BinaryWriter(16).writeDecimal(1, value).writeLong(2, 42).toByteArray();
+            var reader = new BinaryReader(bytes, 0, bytes.length);
+
+            assertThat(reader.nextTag()).isEqualTo(1);
+            assertThat(reader.readDecimal()).isEqualTo(value);
+            assertThat(reader.nextTag()).isEqualTo(2);
+            assertThat(reader.readLong()).isEqualTo(42);
+            assertThat(reader.hasMore()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read old-format JSON events as version 1 without line items")
+    void shouldReadLegacyJson() {
+        var json = ("{\"orderId\":\"" + event.getOrderId() + "\",\"totalAmount\":10,\"stockReserved\":false}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        var legacy = (OrderPaidEvent) deserializer.deserialize("order.paid", new RecordHeaders(), json);
+
+        assertThat(legacy.getVersion()).isEqualTo(1);
+        assertThat(legacy.getItems()).isEmpty();
+        assertThat(legacy.hasItems()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should be much smaller than the JSON encoding")
+    void shouldBeSmallerThanJson() {
+        var json = new JsonSerializer<>().serialize("order.paid", event);
+
+        var binary = BinaryEventCodec.DEFAULT.encode(event);
+
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("Should still read JSON events without a content type header")
+    void shouldFallBackToJson() {
+        var json = new JsonSerializer<>().serialize("order.paid", event);
+
+        assertThat(deserializer.deserialize("order.paid", new RecordHeaders(), json)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should skip fields added by a newer schema version")
+    void shouldSkipUnknownFields() {
+        var newer = new BinaryEventCodec(List.of(new OrderPaidEventSchemaV2()));
+        var bytes = newer.encode(new OrderPaidEventV2(event, "PIX"));
+
+        assertThat(BinaryEventCodec.DEFAULT.decode(OrderPaidEvent.class, bytes)).isEqualTo(event);
+    }
+
+    private String header(RecordHeaders headers, String name) {
+        return new String(headers.lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private record OrderPaidEventV2(OrderPaidEvent base, String paymentMethod) {}
+
+    private static class OrderPaidEventSchemaV2 implements EventSchema<OrderPaidEventV2> {
+
+        private final OrderPaidEventSchema base = new OrderPaidEventSchema();
+
+        @Override
+        public String name() {
+            return "OrderPaidEvent";
+        }
+
+        @Override
+        public Class<OrderPaidEventV2> type() {
+            return OrderPaidEventV2.class;
+        }
+
+        @Override
+        public void write(OrderPaidEventV2 event, BinaryWriter writer) {
+            writer.writeString(15, event.paymentMethod());
+            base.write(event.base(), writer);
+            writer.writeNested(16, nested -> nested.writeLong(1, 42));
+        }
+
+        @Override
+        public OrderPaidEventV2 read(BinaryReader reader) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.application.services.OrderService;
+import com.techmath.ecommerce.application.services.ProductService;
+import com.techmath.ecommerce.domain.entities.Order;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.infrastructure.concurrency.OptimisticLockRetryExecutor;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidBatchConsumer;
+import com.techmath.ecommerce.infrastructure.messaging.dedup.ProcessedEventRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPaidBatchConsumer - Unit Tests")
+class OrderPaidBatchConsumerTests {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    @Mock
+    private ProcessedEventRegistry processedEvents;
+
+    @InjectMocks
+    private OrderPaidBatchConsumer consumer;
+
+    private Product product;
+    private Order firstOrder;
+    private Order secondOrder;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(retryExecutor).run(anyString(), any(Runnable.class));
+
+        product = Product.builder().id(UUID.randomUUID()).name("Mouse").price(BigDecimal.TEN).stockQuantity(100).build();
+        firstOrder = order(3);
+        secondOrder = order(4);
+    }
+
+    @Test
+    @DisplayName("Should aggregate stock changes of the whole batch into one update")
+    void shouldAggregateStockChanges() {
+        when(orderService.getOrdersByIdsWithItems(Set.of(firstOrder.getId(), secondOrder.getId())))
+                .thenReturn(List.of(firstOrder, secondOrder));
+
+        consumer.handleOrderPaidBatch(List.of(event(firstOrder, true), event(secondOrder, false)));
+
+        verify(productService, times(1)).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(7, 3)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to single orders and report the index of the failed one")
+    void shouldReportFailedIndex() {
+        when(orderService.getOrdersByIdsWithItems(any())).thenAnswer(invocation -> {
+            Set<UUID> ids = invocation.getArgument(0);
+            return List.of(firstOrder, secondOrder).stream().filter(order -> ids.contains(order.getId())).toList();
+        });
+        doThrow(new InsufficientStockException("Insufficient stock for product: Mouse"))
+                .when(productService).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(7, 0)));
+        doThrow(new InsufficientStockException("Insufficient stock for product: Mouse"))
+                .when(productService).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(4, 0)));
+
+        assertThatThrownBy(() -> consumer.handleOrderPaidBatch(List.of(event(firstOrder, false), event(secondOrder, false))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+
+        verify(productService, times(1)).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(3, 0)));
+    }
+
+    @Test
+    @DisplayName("Should skip events that were already processed")
+    void shouldSkipProcessedEvents() {
+        when(processedEvents.isProcessed("order.paid", firstOrder.getId().toString())).thenReturn(true);
+        when(processedEvents.isProcessed("order.paid", secondOrder.getId().toString())).thenReturn(false);
+        when(orderService.getOrdersByIdsWithItems(Set.of(secondOrder.getId()))).thenReturn(List.of(secondOrder));
+
+        consumer.handleOrderPaidBatch(List.of(event(firstOrder, false), event(secondOrder, false)));
+
+        verify(processedEvents).markProcessed("order.paid", List.of(secondOrder.getId().toString()));
+        verify(productService).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(4, 0)));
+    }
+
+    @Test
+    @DisplayName("Should apply events carrying their line items without loading the orders")
+    void shouldApplySelfContainedEventsWithoutLookup() {
+        consumer.handleOrderPaidBatch(List.of(selfContainedEvent(firstOrder, true), selfContainedEvent(secondOrder, false)));
+
+        verify(orderService, never()).getOrdersByIdsWithItems(any());
+        verify(productService, times(1)).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(7, 3)));
+    }
+
+    @Test
+    @DisplayName("Should load only the orders of old-format events in a mixed batch")
+    void shouldLoadOnlyLegacyOrders() {
+        when(orderService.getOrdersByIdsWithItems(Set.of(secondOrder.getId()))).thenReturn(List.of(secondOrder));
+
+        consumer.handleOrderPaidBatch(List.of(selfContainedEvent(firstOrder, false), event(secondOrder, false)));
+
+        verify(productService, times(1)).applyStockChanges(Map.of(product.getId(), new ProductService.StockChange(7, 0)));
+    }
+
+    private Order order(int quantity) {
+        var order = Order.builder().id(UUID.randomUUID()).build();
+        order.addItem(product, quantity);
+        return order;
+    }
+
+    private OrderPaidEvent event(Order order, boolean stockReserved) {
+        return new OrderPaidEvent(order.getId(), order.getTotalAmount(), LocalDateTime.now(), stockReserved);
+    }
+
+    private OrderPaidEvent selfContainedEvent(Order order, boolean stockReserved) {
+        var items = order.getItems().stream()
+                .map(item -> new OrderPaidEvent.Item(item.getProduct().getId(), item.getQuantity(), item.getUnitPrice()))
+                .toList();
+        return new OrderPaidEvent(order.getId(), order.getTotalAmount(), LocalDateTime.now(), stockReserved,
+                OrderPaidEvent.CURRENT_VERSION, items);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidHandler;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidParallelConsumer;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import com.techmath.ecommerce.infrastructure.messaging.scaling.ConsumerProcessingTimes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OrderPaidParallelConsumer - Unit Tests")
+class OrderPaidParallelConsumerTests {
+
+    @Mock
+    private OrderPaidHandler orderPaidHandler;
+
+    @Mock
+    private OrderPaidRetryRouter retryRouter;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private OrderPaidParallelConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        when(listenerRegistry.getListenerContainer("order-paid")).thenReturn(container);
+        when(container.isPauseRequested()).thenAnswer(invocation -> paused.get());
+        doAnswer(invocation -> {
+            paused.set(true);
+            return null;
+        }).when(container).pause();
+        doAnswer(invocation -> {
+            paused.set(false);
+            return null;
+        }).when(container).resume();
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(orderPaidHandler).handle(any(OrderPaidEvent.class));
+
+        var meterRegistry = new SimpleMeterRegistry();
+        consumer = new OrderPaidParallelConsumer(orderPaidHandler, retryRouter, listenerRegistry,
+                new ConsumerProcessingTimes(meterRegistry), meterRegistry, 1, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        consumer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should pause the container when a lane fills up and resume it once the lane drains")
+    void shouldPauseWhenLaneIsFull() throws InterruptedException {
+        consumer.handleOrderPaid(record(), acknowledgment);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        consumer.handleOrderPaid(record(), acknowledgment);
+        verify(container, never()).pause();
+        consumer.handleOrderPaid(record(), acknowledgment);
+        verify(container).pause();
+
+        release.countDown();
+
+        verify(container, timeout(5_000)).resume();
+        verify(acknowledgment, timeout(5_000).times(3)).acknowledge();
+    }
+
+    private ConsumerRecord<String, OrderPaidEvent> record() {
+        var event = new OrderPaidEvent(UUID.randomUUID(), BigDecimal.TEN, LocalDateTime.now(), true);
+        return new ConsumerRecord<>("order.paid", 0, 0L, "order-1", event);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidHandler;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidRetryConsumer;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpoint;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPaidRetryConsumer - Unit Tests")
+class OrderPaidRetryConsumerTests {
+
+    @Mock
+    private OrderPaidHandler orderPaidHandler;
+
+    @Mock
+    private OrderPaidRetryRouter retryRouter;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private OrderPaidRetryConsumer consumer;
+
+    @Test
+    @DisplayName("Should register one listener container per retry topic")
+    void shouldRegisterOneEndpointPerRetryTopic() {
+        var registrar = mock(KafkaListenerEndpointRegistrar.class);
+        when(retryRouter.getRetryTopics()).thenReturn(new String[]{"order.paid.retry.1", "order.paid.retry.2", "order.paid.retry.3"});
+
+        consumer.configureKafkaListeners(registrar);
+
+        var endpoints = ArgumentCaptor.forClass(KafkaListenerEndpoint.class);
+        verify(registrar, times(3)).registerEndpoint(endpoints.capture());
+        assertThat(endpoints.getAllValues())
+                .extracting(KafkaListenerEndpoint::getId)
+                .containsExactly("order-paid-retry-1", "order-paid-retry-2", "order-paid-retry-3");
+        assertThat(endpoints.getAllValues())
+                .allSatisfy(endpoint -> assertThat(endpoint.getTopics()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should put a record back until its retry delay has elapsed")
+    void shouldNackRecordBeforeItsDelay() {
+        var record = record();
+        when(retryRouter.remainingDelay(record)).thenReturn(Duration.ofSeconds(5));
+
+        consumer.handleRetry(record, acknowledgment);
+
+        verify(acknowledgment, times(1)).nack(Duration.ofSeconds(5));
+        verify(acknowledgment, never()).acknowledge();
+        verifyNoInteractions(orderPaidHandler);
+    }
+
+    @Test
+    @DisplayName("Should route a failing retry to the next tier and acknowledge it")
+    void shouldRouteFailingRetry() {
+        var record = record();
+        var failure = new InsufficientStockException("Insufficient stock for product: Mouse");
+        when(retryRouter.remainingDelay(record)).thenReturn(Duration.ZERO);
+        doThrow(failure).when(orderPaidHandler).handle(any(OrderPaidEvent.class));
+
+        consumer.handleRetry(record, acknowledgment);
+
+        verify(retryRouter, times(1)).route(record, failure);
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    private ConsumerRecord<String, OrderPaidEvent> record() {
+        var event = new OrderPaidEvent(UUID.randomUUID(), BigDecimal.TEN, LocalDateTime.now(), true);
+        return new ConsumerRecord<>("order.paid.retry.1", 0, 7L, event.getOrderId().toString(), event);
+    }
+
+}
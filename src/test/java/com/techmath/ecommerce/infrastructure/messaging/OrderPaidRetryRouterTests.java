@@ -0,0 +1,116 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.infrastructure.messaging.config.KafkaTemplateRegistry;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderPaidRetryRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPaidRetryRouter - Unit Tests")
+class OrderPaidRetryRouterTests {
+
+    @Mock
+    private KafkaTemplateRegistry kafkaTemplates;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private OrderPaidRetryRouter router;
+    private OrderPaidEvent event;
+
+    @BeforeEach
+    void setUp() {
+        router = new OrderPaidRetryRouter(kafkaTemplates, new SimpleMeterRegistry(), "order.paid", "order.paid.dlt",
+                List.of(Duration.ofSeconds(10), Duration.ofMinutes(1)), Duration.ofSeconds(1));
+        event = new OrderPaidEvent(UUID.randomUUID(), BigDecimal.TEN, LocalDateTime.now(), false);
+    }
+
+    @Test
+    @DisplayName("Should expose one retry topic per configured delay")
+    void shouldExposeRetryTopics() {
+        assertThat(router.getRetryTopics()).containsExactly("order.paid.retry.1", "order.paid.retry.2");
+    }
+
+    @Test
+    @DisplayName("Should route a first failure to the first retry topic with failure metadata")
+    void shouldRouteFirstFailureToFirstRetryTopic() {
+        var sent = stubSend();
+        var record = new ConsumerRecord<>("order.paid", 3, 42L, event.getOrderId().toString(), event);
+
+        router.route(record, new InsufficientStockException("Insufficient stock for product: Mouse"));
+
+        var routed = sent.getValue();
+        assertThat(routed.topic()).isEqualTo("order.paid.retry.1");
+        assertThat(routed.key()).isEqualTo(event.getOrderId().toString());
+        assertThat(routed.value()).isEqualTo(event);
+        assertThat(header(routed, OrderPaidRetryRouter.ATTEMPT_HEADER)).isEqualTo("1");
+        assertThat(header(routed, OrderPaidRetryRouter.ORIGINAL_TOPIC_HEADER)).isEqualTo("order.paid");
+        assertThat(header(routed, OrderPaidRetryRouter.ORIGINAL_PARTITION_HEADER)).isEqualTo("3");
+        assertThat(header(routed, OrderPaidRetryRouter.ORIGINAL_OFFSET_HEADER)).isEqualTo("42");
+        assertThat(header(routed, OrderPaidRetryRouter.EXCEPTION_CLASS_HEADER)).isEqualTo(InsufficientStockException.class.getName());
+        assertThat(Long.parseLong(header(routed, OrderPaidRetryRouter.NOT_BEFORE_HEADER))).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a record once every retry tier is exhausted")
+    void shouldDeadLetterAfterLastTier() {
+        var sent = stubSend();
+        var record = new ConsumerRecord<>("order.paid.retry.2", 0, 7L, event.getOrderId().toString(), event);
+        record.headers().add(OrderPaidRetryRouter.ATTEMPT_HEADER, "2".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(OrderPaidRetryRouter.ORIGINAL_OFFSET_HEADER, "42".getBytes(StandardCharsets.UTF_8));
+
+        router.route(record, new IllegalStateException("boom"));
+
+        var routed = sent.getValue();
+        assertThat(routed.topic()).isEqualTo("order.paid.dlt");
+        assertThat(header(routed, OrderPaidRetryRouter.ORIGINAL_OFFSET_HEADER)).isEqualTo("42");
+        assertThat(routed.headers().lastHeader(OrderPaidRetryRouter.NOT_BEFORE_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report the time left before a retry record is due")
+    void shouldReportRemainingDelay() {
+        var record = new ConsumerRecord<>("order.paid.retry.1", 0, 0L, "key", (Object) event);
+        var notBefore = System.currentTimeMillis() + 60_000;
+        record.headers().add(OrderPaidRetryRouter.NOT_BEFORE_HEADER, String.valueOf(notBefore).getBytes(StandardCharsets.UTF_8));
+
+        assertThat(router.remainingDelay(record)).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1));
+        assertThat(router.remainingDelay(new ConsumerRecord<>("order.paid.retry.1", 0, 0L, "key", (Object) event))).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<ProducerRecord<String, Object>> stubSend() {
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        when(kafkaTemplates.forTopic(anyString())).thenReturn(kafkaTemplate);
+        when(kafkaTemplate.send(captor.capture())).thenReturn(CompletableFuture.completedFuture(null));
+        return captor;
+    }
+
+    private String header(ProducerRecord<String, Object> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+}
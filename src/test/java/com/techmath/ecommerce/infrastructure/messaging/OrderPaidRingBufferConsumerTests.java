@@ -0,0 +1,65 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.events.OrderPaidEvent;
+import com.techmath.ecommerce.domain.exceptions.InsufficientStockException;
+import com.techmath.ecommerce.infrastructure.messaging.bus.RingBufferEventBus;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidHandler;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderPaidRingBufferConsumer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPaidRingBufferConsumer - Unit Tests")
+class OrderPaidRingBufferConsumerTests {
+
+    @Mock
+    private RingBufferEventBus eventBus;
+
+    @Mock
+    private OrderPaidHandler orderPaidHandler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderPaidRingBufferConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new OrderPaidRingBufferConsumer(eventBus, orderPaidHandler, meterRegistry);
+        ReflectionTestUtils.setField(consumer, "orderPaidTopic", "order.paid");
+    }
+
+    @Test
+    @DisplayName("Should drop a failed event, count it and keep processing the batch")
+    void shouldDropFailedEvent() {
+        var failing = event();
+        var next = event();
+        doThrow(new InsufficientStockException("Insufficient stock")).when(orderPaidHandler).handle(failing);
+
+        consumer.handleOrderPaid(List.of(failing, next));
+
+        verify(orderPaidHandler).handle(failing);
+        verify(orderPaidHandler).handle(next);
+        verifyNoMoreInteractions(orderPaidHandler);
+        assertThat(meterRegistry.get("messaging.ring-buffer.dropped").tag("topic", "order.paid").counter().count())
+                .isEqualTo(1);
+    }
+
+    private OrderPaidEvent event() {
+        return new OrderPaidEvent(UUID.randomUUID(), BigDecimal.TEN, LocalDateTime.now(), true);
+    }
+
+}
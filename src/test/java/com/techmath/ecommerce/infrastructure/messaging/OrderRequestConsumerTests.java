@@ -0,0 +1,90 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.application.usecases.ProcessOrderRequestsUseCase;
+import com.techmath.ecommerce.domain.events.OrderRequestedEvent;
+import com.techmath.ecommerce.infrastructure.messaging.consumers.OrderRequestConsumer;
+import com.techmath.ecommerce.infrastructure.messaging.retry.OrderRequestRejectionRecoverer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderRequestConsumer - Unit Tests")
+class OrderRequestConsumerTests {
+
+    @Mock
+    private ProcessOrderRequestsUseCase processOrderRequestsUseCase;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private OrderRequestConsumer consumer;
+
+    @Test
+    @DisplayName("Should process the whole batch at once and acknowledge it")
+    void shouldProcessBatchAtOnce() {
+        var events = List.of(event(), event());
+
+        consumer.handleOrderRequests(events, acknowledgment);
+
+        verify(processOrderRequestsUseCase, times(1)).execute(events);
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should report the index of the first failing request when the batch fails")
+    void shouldReportFailingRequestIndex() {
+        var first = event();
+        var failing = event();
+        var last = event();
+        var events = List.of(first, failing, last);
+        var failure = new DataAccessResourceFailureException("Database unavailable");
+        doThrow(failure).when(processOrderRequestsUseCase).execute(events);
+        doThrow(failure).when(processOrderRequestsUseCase).execute(List.of(failing));
+
+        assertThatThrownBy(() -> consumer.handleOrderRequests(events, acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+
+        verify(processOrderRequestsUseCase, times(1)).execute(List.of(first));
+        verify(processOrderRequestsUseCase, never()).execute(List.of(last));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should record a request that keeps failing as rejected")
+    void shouldRecordExhaustedRequestAsRejected() {
+        var recoverer = new OrderRequestRejectionRecoverer(processOrderRequestsUseCase);
+        var event = event();
+
+        recoverer.accept(new ConsumerRecord<>("order.requests", 0, 42L, event.getUserId().toString(), event),
+                new IllegalStateException("Database unavailable"));
+
+        verify(processOrderRequestsUseCase, times(1)).reject(any(OrderRequestedEvent.class), contains("Database unavailable"));
+        verify(processOrderRequestsUseCase, never()).execute(anyList());
+    }
+
+    private OrderRequestedEvent event() {
+        return new OrderRequestedEvent(UUID.randomUUID(), UUID.randomUUID(),
+                List.of(new OrderRequestedEvent.Item(UUID.randomUUID(), 1)), LocalDateTime.now());
+    }
+
+}
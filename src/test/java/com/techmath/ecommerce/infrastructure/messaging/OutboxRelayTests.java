@@ -0,0 +1,120 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.entities.OutboxEvent;
+import com.techmath.ecommerce.domain.repositories.OutboxEventRepository;
+import com.techmath.ecommerce.infrastructure.messaging.codec.EventFormat;
+import com.techmath.ecommerce.infrastructure.messaging.config.KafkaTemplateRegistry;
+import com.techmath.ecommerce.infrastructure.messaging.outbox.OutboxRelay;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay - Unit Tests")
+class OutboxRelayTests {
+
+    @Mock
+    private OutboxEventRepository repository;
+
+    @Mock
+    private KafkaTemplateRegistry kafkaTemplates;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(repository, kafkaTemplates, transactionManager, 2, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should delete only the events acknowledged by the broker")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteOnlyAcknowledgedEvents() {
+        var acknowledged = event("ack");
+        var failed = event("fail");
+        when(repository.lockNextBatch(2)).thenReturn(List.of(acknowledged, failed));
+        when(kafkaTemplates.rawForTopic("order.paid")).thenReturn(kafkaTemplate);
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> record) -> record != null && "ack".equals(record.key()))))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> record) -> record != null && "fail".equals(record.key()))))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        var relayed = outboxRelay.relayBatch();
+
+        assertThat(relayed).isZero();
+        verify(kafkaTemplate, times(1)).flush();
+        verify(repository, times(1)).deleteAllByIdInBatch(List.of(acknowledged.getId()));
+    }
+
+    @Test
+    @DisplayName("Should send binary events as decoded bytes tagged with their content type")
+    @SuppressWarnings("unchecked")
+    void shouldSendBinaryEventsAsBytes() {
+        var binary = event("bin");
+        binary.setContentType(EventFormat.BINARY.getContentType());
+        binary.setPayload(Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}));
+        when(repository.lockNextBatch(2)).thenReturn(List.of(binary));
+        when(kafkaTemplates.rawForTopic("order.paid")).thenReturn(kafkaTemplate);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        outboxRelay.relayBatch();
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(sent.capture());
+        assertThat(sent.getValue().value()).containsExactly(1, 2, 3);
+        assertThat(new String(sent.getValue().headers().lastHeader(EventFormat.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo(EventFormat.BINARY.getContentType());
+        assertThat(new String(sent.getValue().headers().lastHeader(EventFormat.EVENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo("OrderPaidEvent");
+    }
+
+    @Test
+    @DisplayName("Should not send anything when the outbox is empty")
+    void shouldSkipEmptyOutbox() {
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of());
+
+        assertThat(outboxRelay.relayBatch()).isZero();
+
+        verifyNoInteractions(kafkaTemplates);
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private OutboxEvent event(String key) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .eventType("OrderPaidEvent")
+                .topic("order.paid")
+                .messageKey(key)
+                .payload("{}")
+                .build();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.techmath.ecommerce.infrastructure.messaging;
+
+import com.techmath.ecommerce.domain.repositories.ProcessedEventRepository;
+import com.techmath.ecommerce.infrastructure.messaging.dedup.ProcessedEventRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessedEventRegistry - Unit Tests")
+class ProcessedEventRegistryTests {
+
+    @Mock
+    private ProcessedEventRepository repository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessedEventRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new ProcessedEventRegistry(repository, jdbcTemplate, meterRegistry, Duration.ofDays(7), 2, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should reject unseen events through the bloom filter without querying the database")
+    void shouldMissThroughBloomFilter() {
+        assertThat(registry.isProcessed("order.paid", "order-1")).isFalse();
+
+        verifyNoInteractions(repository);
+        assertThat(count("processed.events.misses", "bloom")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer replays of recently processed events from the cache")
+    void shouldHitCacheAfterMarking() {
+        registry.markProcessed("order.paid", List.of("order-1"));
+
+        assertThat(registry.isProcessed("order.paid", "order-1")).isTrue();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), any());
+        verifyNoInteractions(repository);
+        assertThat(count("processed.events.hits", "cache")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when the event left the cache")
+    void shouldQueryDatabaseAfterEviction() {
+        registry.markProcessed("order.paid", List.of("order-1", "order-2", "order-3"));
+        when(repository.existsById("order.paid:order-1")).thenReturn(true);
+
+        assertThat(registry.isProcessed("order.paid", "order-1")).isTrue();
+        assertThat(registry.isProcessed("order.paid", "order-1")).isTrue();
+
+        verify(repository, times(1)).existsById("order.paid:order-1");
+        assertThat(count("processed.events.hits", "database")).isEqualTo(1);
+        assertThat(count("processed.events.hits", "cache")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep consumers apart")
+    void shouldScopeEventsByConsumer() {
+        registry.markProcessed("order.paid", List.of("order-1"));
+
+        assertThat(registry.isProcessed("order.requests", "order-1")).isFalse();
+    }
+
+    private double count(String name, String source) {
+        return meterRegistry.counter(name, "consumer", "order.paid", "source", source).count();
+    }
+
+}
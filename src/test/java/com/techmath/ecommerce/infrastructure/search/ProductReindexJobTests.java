@@ -0,0 +1,157 @@
+package com.techmath.ecommerce.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import com.techmath.ecommerce.infrastructure.search.services.ProductReindexJob;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchResponseCache;
+import com.techmath.ecommerce.infrastructure.search.services.ReindexProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ProductReindexJob - Unit Tests")
+class ProductReindexJobTests {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @Mock
+    private ElasticsearchIndicesClient indicesClient;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductReindexJob job;
+    private List<Product> products;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        products = List.of(product(), product(), product());
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOperations);
+        when(indexOperations.createMapping(ProductDocument.class)).thenReturn(Document.create());
+        when(elasticsearchClient.indices()).thenReturn(indicesClient);
+        when(indicesClient.existsAlias(any(Function.class))).thenReturn(new BooleanResponse(false));
+        when(indicesClient.exists(any(Function.class))).thenReturn(new BooleanResponse(false));
+        when(productRepository.count()).thenReturn(3L);
+        when(productRepository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(products.subList(0, 2));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(products.get(1).getId(), Limit.of(2))).thenReturn(products.subList(2, 3));
+        when(productRepository.findByUpdatedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(List.of());
+
+        job = new ProductReindexJob(elasticsearchOperations, elasticsearchClient, productRepository, new SimpleMeterRegistry(),
+                mock(ProductSearchResponseCache.class), 2, 2, 1, 0, "1s", Duration.ofMillis(10), true);
+    }
+
+    @Test
+    @DisplayName("Should page through products by id, bulk load the new index and swap the alias")
+    @SuppressWarnings("unchecked")
+    void shouldReindexAndSwapAlias() throws Exception {
+        var started = job.start();
+        var progress = awaitFinished();
+
+        assertThat(progress.state()).isEqualTo(ReindexProgress.State.COMPLETED);
+        assertThat(progress.indexedProducts()).isEqualTo(3);
+        assertThat(progress.totalProducts()).isEqualTo(3);
+
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, times(2)).bulkIndex(captor.capture(), eq(IndexCoordinates.of(started.targetIndex())));
+        assertThat(captor.getAllValues()).flatMap(queries -> queries).extracting(IndexQuery::getId)
+                .containsExactlyInAnyOrderElementsOf(products.stream().map(product -> product.getId().toString()).toList());
+        verify(indexOperations).create(argThat(settings -> "-1".equals(settings.get("index.refresh_interval"))), any(Document.class));
+        verify(indicesClient).putSettings(any(Function.class));
+        verify(indicesClient).updateAliases(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("Should drop the new index and keep the alias when a batch keeps failing")
+    @SuppressWarnings("unchecked")
+    void shouldDropNewIndexWhenBatchFails() throws Exception {
+        when(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+                .thenThrow(new IllegalStateException("cluster unavailable"));
+
+        job.start();
+        var progress = awaitFinished();
+
+        assertThat(progress.state()).isEqualTo(ReindexProgress.State.FAILED);
+        assertThat(progress.error()).isEqualTo("cluster unavailable");
+        assertThat(progress.retriedBatches()).isPositive();
+        verify(indicesClient, never()).updateAliases(any(Function.class));
+        verify(indicesClient).delete(any(Function.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a second reindex while one is running")
+    void shouldRejectConcurrentReindex() throws Exception {
+        var release = new CountDownLatch(1);
+        when(productRepository.count()).thenAnswer(invocation -> {
+            release.await();
+            return 3L;
+        });
+
+        job.start();
+
+        assertThatThrownBy(() -> job.start()).isInstanceOf(BusinessException.class);
+        release.countDown();
+        assertThat(awaitFinished().state()).isEqualTo(ReindexProgress.State.COMPLETED);
+    }
+
+    private ReindexProgress awaitFinished() throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (job.getProgress().state() == ReindexProgress.State.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return job.getProgress();
+    }
+
+    private Product product() {
+        return Product.builder()
+                .id(UUID.randomUUID())
+                .name("Keyboard")
+                .price(BigDecimal.TEN)
+                .stockQuantity(10)
+                .build();
+    }
+
+}
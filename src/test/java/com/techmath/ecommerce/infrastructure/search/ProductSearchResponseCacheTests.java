@@ -0,0 +1,128 @@
+package com.techmath.ecommerce.infrastructure.search;
+
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchResponseCache;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchResponseCache.CachedResponse;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchResponseCache.Key;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchResponseCache - Unit Tests")
+class ProductSearchResponseCacheTests {
+
+    private static final CachedResponse RESPONSE = new CachedResponse("[]".getBytes(), new HttpHeaders(), HttpStatus.PARTIAL_CONTENT);
+
+    @Test
+    @DisplayName("Should normalize equivalent prices to the same key")
+    void shouldNormalizeKeys() {
+        var pageable = PageRequest.of(0, 20, Sort.by("name"));
+
+        assertThat(Key.of("Mouse", "Electronics", new BigDecimal("10.00"), null, pageable))
+                .isEqualTo(Key.of("Mouse", "Electronics", BigDecimal.TEN, null, pageable));
+    }
+
+    @Test
+    @DisplayName("Should key on the exact filters the search runs with")
+    void shouldKeepFiltersVerbatim() {
+        var pageable = PageRequest.of(0, 20, Sort.by("name"));
+
+        assertThat(Key.of(null, "Books ", null, null, pageable)).isNotEqualTo(Key.of(null, "Books", null, null, pageable));
+        assertThat(Key.of("Mouse", null, null, null, pageable)).isNotEqualTo(Key.of("mouse", null, null, null, pageable));
+    }
+
+    @Test
+    @DisplayName("Should serve a stored response until its category generation changes")
+    void shouldInvalidateByCategoryGeneration() {
+        var cache = cache(Duration.ofMinutes(1), Duration.ZERO);
+        var electronics = key("Electronics");
+        var books = key("Books");
+        cache.put(electronics, cache.stamp(electronics), RESPONSE);
+        cache.put(books, cache.stamp(books), RESPONSE);
+
+        cache.invalidate(List.of("Electronics"));
+
+        assertThat(cache.get(electronics)).isEmpty();
+        assertThat(cache.get(books)).containsSame(RESPONSE);
+    }
+
+    @Test
+    @DisplayName("Should invalidate unfiltered queries on any category change")
+    void shouldInvalidateUnfilteredQueries() {
+        var cache = cache(Duration.ofMinutes(1), Duration.ZERO);
+        var all = key(null);
+        cache.put(all, cache.stamp(all), RESPONSE);
+
+        cache.invalidate(List.of("Books"));
+
+        assertThat(cache.get(all)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should invalidate every entry on a global bump")
+    void shouldInvalidateAll() {
+        var cache = cache(Duration.ofMinutes(1), Duration.ZERO);
+        var books = key("Books");
+        cache.put(books, cache.stamp(books), RESPONSE);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get(books)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store a response loaded before a concurrent invalidation")
+    void shouldRejectStaleStamp() {
+        var cache = cache(Duration.ofMinutes(1), Duration.ZERO);
+        var books = key("Books");
+        var stamp = cache.stamp(books);
+
+        cache.invalidate(List.of("Books"));
+        cache.put(books, stamp, RESPONSE);
+
+        assertThat(cache.get(books)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store responses while the index is still refreshing after an invalidation")
+    void shouldSkipStoreDuringRefreshLag() {
+        var cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(1));
+        var books = key("Books");
+
+        cache.invalidate(List.of("Books"));
+        cache.put(books, cache.stamp(books), RESPONSE);
+
+        assertThat(cache.get(books)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void shouldExpireEntries() throws InterruptedException {
+        var cache = cache(Duration.ofMillis(20), Duration.ZERO);
+        var books = key("Books");
+        cache.put(books, cache.stamp(books), RESPONSE);
+
+        Thread.sleep(50);
+
+        assertThat(cache.get(books)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private ProductSearchResponseCache cache(Duration ttl, Duration refreshLag) {
+        return new ProductSearchResponseCache(new SimpleMeterRegistry(), true, 100, ttl, refreshLag);
+    }
+
+    private Key key(String category) {
+        return Key.of(null, category, null, null, PageRequest.of(0, 20, Sort.by("name")));
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.techmath.ecommerce.infrastructure.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmath.ecommerce.domain.exceptions.BusinessException;
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import com.techmath.ecommerce.infrastructure.search.services.ProductReindexJob;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchPage;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchSyncQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchService - Unit Tests")
+class ProductSearchServiceTests {
+
+    private static final Sort SORT = Sort.by("name.keyword");
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ProductSearchSyncQueue syncQueue;
+
+    @Mock
+    private ProductReindexJob reindexJob;
+
+    private ProductSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductSearchService(elasticsearchOperations, syncQueue, reindexJob, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "trackTotalHitsUpTo", 10000);
+        ReflectionTestUtils.setField(service, "cursorKeepAlive", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should cap total hit counting and report a lower-bound total")
+    void shouldCapTotalHits() {
+        var hits = hits(List.of(hit("1", "Mouse")), TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO, null);
+        when(elasticsearchOperations.search(any(Query.class), eq(ProductDocument.class))).thenReturn(hits);
+
+        var page = service.searchProducts(null, null, null, null, PageRequest.of(0, 1, SORT));
+
+        var captor = ArgumentCaptor.forClass(Query.class);
+        verify(elasticsearchOperations).search(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue().getTrackTotalHitsUpTo()).isEqualTo(10000);
+        assertThat(page).isInstanceOfSatisfying(ProductSearchPage.class, searchPage -> assertThat(searchPage.isTotalExact()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should open a point in time and continue with search_after from the returned cursor")
+    void shouldPageWithPointInTimeAndSearchAfter() {
+        when(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), any(Duration.class), eq(false))).thenReturn("pit-1");
+        when(elasticsearchOperations.search(any(Query.class), eq(ProductDocument.class)))
+                .thenReturn(hits(List.of(hit("1", "Keyboard"), hit("2", "Mouse")), TotalHitsRelation.OFF, "pit-2"))
+                .thenReturn(hits(List.of(hit("3", "Webcam")), TotalHitsRelation.OFF, "pit-2"));
+
+        var first = service.searchProductsAfter(null, "Electronics", null, null, SORT, 2, null);
+        var second = service.searchProductsAfter(null, "Electronics", null, null, SORT, 2, first.nextCursor());
+
+        assertThat(first.content()).extracting(ProductDocument::getId).containsExactly("1", "2");
+        assertThat(first.nextCursor()).isNotBlank();
+        assertThat(second.content()).extracting(ProductDocument::getId).containsExactly("3");
+        assertThat(second.nextCursor()).isNull();
+
+        var captor = ArgumentCaptor.forClass(CriteriaQuery.class);
+        verify(elasticsearchOperations, times(2)).search(captor.capture(), eq(ProductDocument.class));
+        var continuation = captor.getAllValues().get(1);
+        assertThat(continuation.getPointInTime().id()).isEqualTo("pit-2");
+        assertThat(continuation.getSearchAfter()).containsExactly("Mouse", 2);
+        verify(elasticsearchOperations, times(1)).openPointInTime(any(IndexCoordinates.class), any(Duration.class), eq(false));
+        verify(elasticsearchOperations).closePointInTime("pit-2");
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor replayed with different filters")
+    void shouldRejectCursorForDifferentFilters() {
+        when(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), any(Duration.class), eq(false))).thenReturn("pit-1");
+        when(elasticsearchOperations.search(any(Query.class), eq(ProductDocument.class)))
+                .thenReturn(hits(List.of(hit("1", "Keyboard")), TotalHitsRelation.OFF, "pit-1"));
+
+        var first = service.searchProductsAfter(null, "Electronics", null, null, SORT, 1, null);
+
+        assertThatThrownBy(() -> service.searchProductsAfter(null, "Books", null, null, SORT, 1, first.nextCursor()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> service.searchProductsAfter(null, "Books", null, null, SORT, 1, "not-a-cursor"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<ProductDocument> hits(List<SearchHit<ProductDocument>> hits, TotalHitsRelation relation, String pointInTimeId) {
+        SearchHits<ProductDocument> searchHits = mock(SearchHits.class);
+        lenient().when(searchHits.getSearchHits()).thenReturn(hits);
+        lenient().when(searchHits.getTotalHits()).thenReturn((long) hits.size());
+        lenient().when(searchHits.getTotalHitsRelation()).thenReturn(relation);
+        lenient().when(searchHits.getPointInTimeId()).thenReturn(pointInTimeId);
+        return searchHits;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHit<ProductDocument> hit(String id, String name) {
+        var document = new ProductDocument();
+        document.setId(id);
+        document.setName(name);
+        SearchHit<ProductDocument> hit = mock(SearchHit.class);
+        lenient().when(hit.getContent()).thenReturn(document);
+        lenient().when(hit.getSortValues()).thenReturn(List.of(name, Integer.parseInt(id)));
+        return hit;
+    }
+
+}
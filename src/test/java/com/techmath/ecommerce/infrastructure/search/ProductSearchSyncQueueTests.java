@@ -0,0 +1,228 @@
+package com.techmath.ecommerce.infrastructure.search;
+
+import com.techmath.ecommerce.infrastructure.search.documents.ProductDocument;
+import com.techmath.ecommerce.infrastructure.search.repositories.ProductSearchRepository;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchResponseCache;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchSyncQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchSyncQueue - Unit Tests")
+class ProductSearchSyncQueueTests {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ProductSearchRepository repository;
+
+    @Mock
+    private ProductSearchResponseCache responseCache;
+
+    private ProductSearchSyncQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should coalesce updates of the same product and flush them in one bulk request")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceAndFlushInBulk() {
+        queue = queue(3, Duration.ofMinutes(1), 100);
+
+        queue.index(List.of(document("1", 10), document("2", 5)));
+        queue.index(List.of(document("1", 7)));
+        queue.index(List.of(document("3", 1)));
+
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, timeout(5_000)).bulkIndex(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue()).extracting(IndexQuery::getId).containsExactly("1", "2", "3");
+        assertThat(captor.getValue().getFirst().getObject())
+                .isInstanceOfSatisfying(ProductDocument.class, document -> assertThat(document.getStockQuantity()).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the flush interval elapses")
+    void shouldFlushOnInterval() {
+        queue = queue(500, Duration.ofMillis(50), 100);
+
+        queue.index(List.of(document("1", 10)));
+
+        verify(elasticsearchOperations, timeout(5_000)).bulkIndex(anyList(), eq(ProductDocument.class));
+        assertThat(queue.getPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should let a delete replace a pending index of the same product")
+    void shouldReplacePendingIndexWithDelete() {
+        queue = queue(500, Duration.ofMillis(50), 100);
+
+        queue.index(List.of(document("1", 10)));
+        queue.delete("1");
+
+        verify(repository, timeout(5_000)).deleteAllById(List.of("1"));
+        verify(elasticsearchOperations, after(200).never()).bulkIndex(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("Should re-queue a failed flush and retry it")
+    void shouldRetryFailedFlush() {
+        queue = queue(500, Duration.ofMillis(10), 100);
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ProductDocument.class)))
+                .thenThrow(new IllegalStateException("cluster unavailable"))
+                .thenReturn(List.of());
+
+        queue.index(List.of(document("1", 10)));
+
+        verify(elasticsearchOperations, timeout(5_000).times(2)).bulkIndex(anyList(), eq(ProductDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should fold a stock change queued during a failed index into the retried index")
+    @SuppressWarnings("unchecked")
+    void shouldFoldStockChangeIntoRequeuedIndex() {
+        queue = queue(500, Duration.ofMillis(10), 100);
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ProductDocument.class)))
+                .thenAnswer(invocation -> {
+                    queue.updateStock(List.of(document("1", 3)));
+                    throw new IllegalStateException("cluster unavailable");
+                })
+                .thenReturn(List.of());
+
+        queue.index(List.of(document("1", 10)));
+
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, timeout(5_000).times(2)).bulkIndex(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue().getFirst().getObject())
+                .isInstanceOfSatisfying(ProductDocument.class, document -> assertThat(document.getStockQuantity()).isEqualTo(3));
+        verify(elasticsearchOperations, after(200).never()).bulkUpdate(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("Should re-queue stock updates that failed transiently and drop those for missing documents")
+    @SuppressWarnings("unchecked")
+    void shouldRetryOnlyTransientStockFailures() {
+        queue = queue(500, Duration.ofMillis(10), 100);
+        when(elasticsearchOperations.bulkUpdate(anyList(), eq(ProductDocument.class)))
+                .thenThrow(new BulkFailureException("Bulk operation has failures", Map.of(
+                        "1", new BulkFailureException.FailureDetails(429, "es_rejected_execution_exception"),
+                        "2", new BulkFailureException.FailureDetails(404, "document_missing_exception"))))
+                .thenReturn(List.of());
+
+        queue.updateStock(List.of(document("1", 3), document("2", 4)));
+
+        ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, timeout(5_000).times(2)).bulkUpdate(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue()).extracting(UpdateQuery::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should send stock-only changes as scripted partial updates")
+    @SuppressWarnings("unchecked")
+    void shouldSendStockChangesAsPartialUpdates() {
+        queue = queue(500, Duration.ofMillis(50), 100);
+
+        queue.updateStock(List.of(document("1", 10)));
+        queue.updateStock(List.of(document("1", 0)));
+
+        ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, timeout(5_000)).bulkUpdate(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue()).singleElement().satisfies(update -> {
+            assertThat(update.getId()).isEqualTo("1");
+            assertThat(update.getScript()).contains("ctx.op = 'noop'");
+            assertThat(update.getParams()).containsEntry("stockQuantity", 0).containsEntry("boundaryOnly", false);
+        });
+        verify(elasticsearchOperations, never()).bulkIndex(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("Should fold a stock change into a pending full index of the same product")
+    @SuppressWarnings("unchecked")
+    void shouldFoldStockChangeIntoPendingIndex() {
+        queue = queue(500, Duration.ofMillis(50), 100);
+
+        queue.index(List.of(document("1", 10)));
+        queue.updateStock(List.of(document("1", 3)));
+
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, timeout(5_000)).bulkIndex(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue().getFirst().getObject())
+                .isInstanceOfSatisfying(ProductDocument.class, document -> assertThat(document.getStockQuantity()).isEqualTo(3));
+        verify(elasticsearchOperations, never()).bulkUpdate(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("Should ignore a stock change for a product pending deletion")
+    void shouldIgnoreStockChangeForPendingDelete() {
+        queue = queue(500, Duration.ofMillis(50), 100);
+
+        queue.delete("1");
+        queue.updateStock(List.of(document("1", 3)));
+
+        verify(repository, timeout(5_000)).deleteAllById(List.of("1"));
+        verify(elasticsearchOperations, never()).bulkUpdate(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached search responses of the categories touched by a stock flush")
+    void shouldInvalidateCategoriesAfterStockFlush() {
+        queue = queue(500, Duration.ofMillis(50), 100);
+        var document = document("1", 3);
+        document.setCategory("Books");
+
+        queue.updateStock(List.of(document));
+
+        verify(responseCache, timeout(5_000)).invalidate(List.of("Books"));
+        verify(responseCache, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should pass the boundary-only flag to the stock update script")
+    @SuppressWarnings("unchecked")
+    void shouldPassBoundaryOnlyFlag() {
+        queue = new ProductSearchSyncQueue(elasticsearchOperations, repository, new SimpleMeterRegistry(), responseCache,
+                100, 500, Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofMillis(10), true);
+
+        queue.updateStock(List.of(document("1", 4)));
+
+        ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, timeout(5_000)).bulkUpdate(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue().getFirst().getParams()).containsEntry("boundaryOnly", true);
+    }
+
+    private ProductSearchSyncQueue queue(int batchSize, Duration flushInterval, int capacity) {
+        return new ProductSearchSyncQueue(elasticsearchOperations, repository, new SimpleMeterRegistry(), responseCache,
+                capacity, batchSize, flushInterval, Duration.ofSeconds(1), Duration.ofMillis(10), false);
+    }
+
+    private ProductDocument document(String id, int stock) {
+        var document = new ProductDocument();
+        document.setId(id);
+        document.setStockQuantity(stock);
+        return document;
+    }
+
+}
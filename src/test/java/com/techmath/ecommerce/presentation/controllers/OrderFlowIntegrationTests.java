@@ -0,0 +1,148 @@
+package com.techmath.ecommerce.presentation.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmath.ecommerce.domain.entities.Product;
+import com.techmath.ecommerce.domain.entities.User;
+import com.techmath.ecommerce.domain.enums.OrderStatus;
+import com.techmath.ecommerce.domain.enums.UserRole;
+import com.techmath.ecommerce.domain.repositories.OrderRepository;
+import com.techmath.ecommerce.domain.repositories.ProductRepository;
+import com.techmath.ecommerce.domain.repositories.UserRepository;
+import com.techmath.ecommerce.infrastructure.search.repositories.ProductSearchRepository;
+import com.techmath.ecommerce.infrastructure.search.services.ProductSearchService;
+import com.techmath.ecommerce.infrastructure.security.JwtService;
+import com.techmath.ecommerce.presentation.dto.request.OrderItemsRequest;
+import com.techmath.ecommerce.presentation.dto.response.OrderResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "orders.intake.mode=async")
+@DisplayName("Order flow over the ring buffer - Integration Tests")
+class OrderFlowIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private ProductSearchService productSearchService;
+
+    @MockitoBean
+    private ProductSearchRepository productSearchRepository;
+
+    @MockitoBean
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private String userToken;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        var testUser = userRepository.saveAndFlush(User.builder()
+                .email("flow@test.com")
+                .password(passwordEncoder.encode("user123"))
+                .name("Flow Test")
+                .role(UserRole.USER)
+                .active(true)
+                .build());
+        userToken = jwtService.generateToken(testUser);
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("Test Product")
+                .description("Test Description")
+                .price(BigDecimal.valueOf(100.00))
+                .category("Electronics")
+                .stockQuantity(10)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create an order from an async request and decrease stock once it is paid")
+    void shouldDecreaseStockForPaidAsyncOrder() throws Exception {
+        var items = List.of(new OrderItemsRequest(testProduct.getId(), 3));
+
+        var accepted = read(mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.requestId").exists())
+                .andReturn().getResponse().getContentAsString());
+
+        var orderId = await().atMost(Duration.ofSeconds(10))
+                .until(() -> requestStatus(accepted.getRequestId()).getOrderId(), id -> id != null);
+
+        mockMvc.perform(post("/api/v1/orders/pay/" + orderId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(OrderStatus.PAID.name()));
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStockQuantity()).isEqualTo(7));
+    }
+
+    private OrderResponse requestStatus(UUID requestId) throws Exception {
+        return read(mockMvc.perform(get("/api/v1/orders/requests/" + requestId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private OrderResponse read(String content) throws Exception {
+        return objectMapper.readValue(content, OrderResponse.class);
+    }
+
+}
@@ -35,6 +35,9 @@ import java.util.UUID;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -146,6 +149,17 @@ class ProductControllerIntegrationTests {
                 .andExpect(jsonPath("$[0].name").value("Test Product"));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/products - Should search and cache with the same trimmed category")
+    void shouldTrimCategoryBeforeSearching() throws Exception {
+        mockMvc.perform(get("/api/v1/products")
+                        .param("category", " Electronics ")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().is(206));
+
+        verify(productSearchService).searchProducts(isNull(), eq("Electronics"), isNull(), isNull(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("GET /api/v1/products/{id} - Should get product by id")
     void shouldGetProductById() throws Exception {